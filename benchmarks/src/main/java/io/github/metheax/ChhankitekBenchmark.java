@@ -0,0 +1,70 @@
+package io.github.metheax;
+
+import io.github.metheax.domain.KhmerLunarDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion and new year hot paths by target year.
+ * Run with {@code java -jar target/benchmarks.jar -prof gc} to report allocation rate next to throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChhankitekBenchmark {
+
+    @Param({"1900", "2000", "2026", "2100"})
+    private int year;
+
+    private LocalDateTime target;
+    private long targetEpochMilli;
+    private int jsYear;
+
+    @Setup
+    public void setUp() {
+        target = LocalDateTime.of(year, 5, 28, 10, 30);
+        targetEpochMilli = target.toInstant(ZoneOffset.ofHours(7)).toEpochMilli();
+        jsYear = (year + 544) - 1182;
+    }
+
+    @Benchmark
+    public KhmerLunarDate toKhmerLunarDateFormat() {
+        return Chhankitek.toKhmerLunarDateFormat(target);
+    }
+
+    @Benchmark
+    public KhmerLunarDate toKhmerLunarDateFormatEpochMilli() {
+        return Chhankitek.toKhmerLunarDateFormat(targetEpochMilli);
+    }
+
+    @Benchmark
+    public Chhankitek.LunarDate findLunarDate() {
+        return Chhankitek.findLunarDate(target);
+    }
+
+    @Benchmark
+    public LocalDateTime getVisakhaBochea() {
+        return Chhankitek.getVisakhaBochea(year);
+    }
+
+    @Benchmark
+    public KhmerNewYearCal.KhmerNewYear newKhmerNewYearCal() {
+        return new KhmerNewYearCal(jsYear).getKhmerNewYear();
+    }
+}
@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Load test of a server started on localhost, e.g. java -jar target/server.jar --port 8080
+# Usage: ./load-test.sh [REQUESTS] [CONCURRENCY] [BATCH_SIZE] [URL]
+# Sends REQUESTS single-date GETs and REQUESTS batch POSTs of BATCH_SIZE dates with curl, CONCURRENCY at a time.
+# Each request starts a curl process, so small requests measure the client too: raise BATCH_SIZE to load the server.
+set -euo pipefail
+
+requests=${1:-2000}
+concurrency=${2:-16}
+batch_size=${3:-100}
+url=${4:-http://127.0.0.1:8080}
+
+command -v curl >/dev/null || { echo "curl is required" >&2; exit 1; }
+curl -sf -o /dev/null "$url/lunar-date?date=2021-05-28" || { echo "No server at $url" >&2; exit 1; }
+
+batch=$(mktemp)
+trap 'rm -f "$batch"' EXIT
+{
+    printf '['
+    for ((i = 0; i < batch_size; i++)); do
+        ((i > 0)) && printf ','
+        printf '"%04d-%02d-%02d"' $((1950 + i % 150)) $((1 + i % 12)) $((1 + i % 28))
+    done
+    printf ']'
+} > "$batch"
+
+# run NAME CURL_ARGS...: one curl per request, the ?n= suffix makes each URL different
+run() {
+    local name=$1
+    shift
+    local start end statuses ok
+    start=$(date +%s%N)
+    statuses=$(seq "$requests" | xargs -P "$concurrency" -I{} curl -s -o /dev/null -w '%{http_code}\n' "$@")
+    end=$(date +%s%N)
+    ok=$(grep -c '^200$' <<< "$statuses" || true)
+    awk -v name="$name" -v n="$requests" -v ok="$ok" -v ns=$((end - start)) \
+        'BEGIN { printf "%-8s %d requests, %d OK, %.2f s, %.0f requests/s\n", name, n, ok, ns / 1e9, n / (ns / 1e9) }'
+}
+
+run single "$url/lunar-date?date=2024-01-15&n={}"
+run batch -X POST -H 'Content-Type: application/json' --data-binary "@$batch" "$url/lunar-dates?n={}"
+echo "batch of $batch_size dates per POST: $((requests * batch_size)) dates converted"
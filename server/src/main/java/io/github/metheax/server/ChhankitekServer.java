@@ -0,0 +1,271 @@
+package io.github.metheax.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.metheax.Chhankitek;
+import io.github.metheax.domain.KhmerLunarDate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * Local HTTP conversion service on the JDK built-in HTTP server, for callers outside the JVM.
+ * <pre>
+ * GET  /lunar-date?date=2021-05-28          one KhmerLunarDate as a JSON object
+ * POST /lunar-dates ["2021-05-28", 1622160000000]   a JSON array of them, in the same order
+ * </pre>
+ * A date is yyyy-MM-dd, an ISO date time (read as local date time) or epoch milliseconds read in Asia/Phnom_Penh.
+ * A date that cannot be converted is an {"date":..., "error":...} element of the batch, the others still convert.
+ * Responses carry an ETag. One whose dates are all before today never changes, so it also gets a one year
+ * Cache-Control.
+ */
+public final class ChhankitekServer {
+
+    static final int MAX_BATCH_SIZE = 10_000;
+    private static final int MAX_BODY_BYTES = 1 << 20;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Phnom_Penh");
+    private static final String USAGE = "Usage: java -jar server.jar [--host HOST] [--port PORT] [--threads N]\n"
+            + "  --host HOST  address to bind, 127.0.0.1 by default\n"
+            + "  --port PORT  8080 by default\n"
+            + "  --threads N  fixed pool of N threads, virtual threads on Java 21+ or 2 threads per CPU by default";
+
+    private ChhankitekServer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String host = "127.0.0.1";
+        int port = 8080;
+        int threads = 0;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--host":
+                        host = args[++i];
+                        break;
+                    case "--port":
+                        port = Integer.parseInt(args[++i]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--help":
+                        System.out.println(USAGE);
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage() == null ? e.toString() : e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        Executor executor = threads > 0 ? Executors.newFixedThreadPool(threads) : newDefaultExecutor();
+        HttpServer server = start(new InetSocketAddress(InetAddress.getByName(host), port), executor);
+        System.out.println("Khmer Chhankitek server listening on http://" + host + ":" + server.getAddress().getPort());
+    }
+
+    /**
+     * Bind and start the server
+     * @param address address and port, port 0 for any free port
+     * @param executor runs the requests, e.g. newDefaultExecutor()
+     * @return started HttpServer, stop it with HttpServer.stop
+     */
+    public static HttpServer start(InetSocketAddress address, Executor executor) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        server.createContext("/lunar-date", ChhankitekServer::handleLunarDate);
+        server.createContext("/lunar-dates", ChhankitekServer::handleLunarDates);
+        server.setExecutor(executor);
+        server.start();
+        return server;
+    }
+
+    /**
+     * A virtual thread per request on Java 21+, looked up at run time since this module targets Java 8,
+     * else a fixed pool of two threads per CPU
+     */
+    public static ExecutorService newDefaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        }
+    }
+
+    private static void handleLunarDate(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Use GET");
+                return;
+            }
+            String date = getQueryParameter(exchange.getRequestURI().getRawQuery(), "date");
+            if (date == null) {
+                sendError(exchange, 400, "Missing date parameter");
+                return;
+            }
+            LocalDateTime dateTime;
+            KhmerLunarDate lunarDate;
+            try {
+                dateTime = parse(date);
+                lunarDate = Chhankitek.toKhmerLunarDateFormat(dateTime);
+            } catch (RuntimeException e) {
+                sendError(exchange, 400, "Cannot convert " + date + ": " + e.getMessage());
+                return;
+            }
+            byte[] body = Json.appendLunarDate(new StringBuilder(320), date, lunarDate).toString()
+                    .getBytes(StandardCharsets.UTF_8);
+            sendCacheable(exchange, body, dateTime.toLocalDate().isBefore(LocalDate.now(ZONE)));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void handleLunarDates(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Use POST");
+                return;
+            }
+            byte[] request = readBody(exchange.getRequestBody());
+            if (request == null) {
+                sendError(exchange, 413, "Request body is larger than " + MAX_BODY_BYTES + " bytes");
+                return;
+            }
+            List<String> dates;
+            try {
+                dates = Json.parseArray(new String(request, StandardCharsets.UTF_8));
+            } catch (RuntimeException e) {
+                sendError(exchange, 400, "Expected a JSON array of dates: " + e.getMessage());
+                return;
+            }
+            if (dates.size() > MAX_BATCH_SIZE) {
+                sendError(exchange, 413, "At most " + MAX_BATCH_SIZE + " dates per request");
+                return;
+            }
+            LocalDate today = LocalDate.now(ZONE);
+            boolean past = true;
+            StringBuilder body = new StringBuilder(dates.size() * 320 + 2).append('[');
+            for (int i = 0; i < dates.size(); i++) {
+                String date = dates.get(i);
+                if (i > 0) {
+                    body.append(',');
+                }
+                try {
+                    LocalDateTime dateTime = parse(date);
+                    Json.appendLunarDate(body, date, Chhankitek.toKhmerLunarDateFormat(dateTime));
+                    past &= dateTime.toLocalDate().isBefore(today);
+                } catch (RuntimeException e) {
+                    Json.appendError(body, date, "Cannot convert " + date + ": " + e.getMessage());
+                    past = false;
+                }
+            }
+            sendCacheable(exchange, body.append(']').toString().getBytes(StandardCharsets.UTF_8), past);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * yyyy-MM-dd, an ISO date time or epoch milliseconds
+     */
+    static LocalDateTime parse(String date) {
+        if (date.isEmpty()) {
+            throw new DateTimeException("Empty date");
+        }
+        if (date.length() == 10 && date.charAt(4) == '-') {
+            return LocalDate.parse(date).atStartOfDay();
+        }
+        if (date.chars().skip(date.charAt(0) == '-' ? 1 : 0).allMatch(c -> c >= '0' && c <= '9')) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(date)), ZONE);
+        }
+        TemporalAccessor dateTime = DateTimeFormatter.ISO_DATE_TIME.parse(date);
+        return LocalDateTime.of(LocalDate.from(dateTime), LocalTime.from(dateTime));
+    }
+
+    private static String getQueryParameter(String rawQuery, String name) throws IOException {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).equals(name)) {
+                return URLDecoder.decode(parameter.substring(equals + 1), "UTF-8");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return body, null when it is larger than MAX_BODY_BYTES
+     */
+    private static byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        byte[] buffer = new byte[8192];
+        for (int read; (read = in.read(buffer)) != -1; ) {
+            if (body.size() + read > MAX_BODY_BYTES) {
+                return null;
+            }
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+
+    private static String etag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + body.length + "\"";
+    }
+
+    /**
+     * 200 with an ETag, or 304 when the client has it already
+     * @param immutable true when the body can never change, e.g. every date is before today
+     */
+    private static void sendCacheable(HttpExchange exchange, byte[] body, boolean immutable) throws IOException {
+        String etag = etag(body);
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", immutable ? "public, max-age=31536000, immutable" : "no-cache");
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        send(exchange, 200, body);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        send(exchange, status, Json.appendString(new StringBuilder("{\"error\":"), message).append('}').toString()
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
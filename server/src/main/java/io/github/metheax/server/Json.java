@@ -0,0 +1,167 @@
+package io.github.metheax.server;
+
+import io.github.metheax.domain.KhmerLunarDate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The little JSON the server needs: reading an array of strings and numbers, writing KhmerLunarDate objects
+ */
+final class Json {
+
+    private Json() {
+    }
+
+    /**
+     * @param text JSON array of strings or integers, e.g. ["2021-05-28", 1622160000000]
+     * @return each element as text, numbers as written
+     * @throws IllegalArgumentException when text is not such an array
+     */
+    static List<String> parseArray(String text) {
+        List<String> values = new ArrayList<>();
+        int i = skipWhitespace(text, 0);
+        i = expect(text, i, '[');
+        i = skipWhitespace(text, i);
+        if (i < text.length() && text.charAt(i) == ']') {
+            return checkEnd(text, i + 1, values);
+        }
+        while (true) {
+            i = skipWhitespace(text, i);
+            StringBuilder value = new StringBuilder(32);
+            if (i < text.length() && text.charAt(i) == '"') {
+                i = readString(text, i + 1, value);
+            } else {
+                int start = i;
+                if (i < text.length() && text.charAt(i) == '-') {
+                    i++;
+                }
+                while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                    i++;
+                }
+                if (i == start || text.charAt(i - 1) == '-') {
+                    throw new IllegalArgumentException("Expected a string or an integer at " + start);
+                }
+                value.append(text, start, i);
+            }
+            values.add(value.toString());
+            i = skipWhitespace(text, i);
+            if (i < text.length() && text.charAt(i) == ']') {
+                return checkEnd(text, i + 1, values);
+            }
+            i = expect(text, i, ',');
+        }
+    }
+
+    private static int readString(String text, int i, StringBuilder value) {
+        while (i < text.length()) {
+            char c = text.charAt(i++);
+            if (c == '"') {
+                return i;
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (i >= text.length()) {
+                break;
+            }
+            char escaped = text.charAt(i++);
+            switch (escaped) {
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 > text.length()) {
+                        throw new IllegalArgumentException("Invalid \\u escape at " + (i - 2));
+                    }
+                    value.append((char) Integer.parseInt(text.substring(i, i + 4), 16));
+                    i += 4;
+                    break;
+                default:
+                    value.append(escaped);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated string");
+    }
+
+    private static List<String> checkEnd(String text, int i, List<String> values) {
+        if (skipWhitespace(text, i) != text.length()) {
+            throw new IllegalArgumentException("Unexpected content after the array at " + i);
+        }
+        return values;
+    }
+
+    private static int expect(String text, int i, char c) {
+        if (i >= text.length() || text.charAt(i) != c) {
+            throw new IllegalArgumentException("Expected " + c + " at " + i);
+        }
+        return i + 1;
+    }
+
+    private static int skipWhitespace(String text, int i) {
+        while (i < text.length() && (text.charAt(i) == ' ' || text.charAt(i) == '\t' || text.charAt(i) == '\n'
+                || text.charAt(i) == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Append the text and numeric properties of a KhmerLunarDate, with the date it was converted from
+     */
+    static StringBuilder appendLunarDate(StringBuilder out, String date, KhmerLunarDate lunarDate) {
+        out.append('{');
+        appendString(out.append("\"date\":"), date);
+        appendString(out.append(",\"dayOfWeek\":"), lunarDate.getDayOfWeek());
+        appendString(out.append(",\"lunarDay\":"), lunarDate.getLunarDay());
+        appendString(out.append(",\"lunarMonth\":"), lunarDate.getLunarMonth());
+        appendString(out.append(",\"lunarZodiac\":"), lunarDate.getLunarZodiac());
+        appendString(out.append(",\"lunarEra\":"), lunarDate.getLunarEra());
+        appendString(out.append(",\"lunarYear\":"), lunarDate.getLunarYear());
+        appendString(out.append(",\"dayOfWeekValue\":"), lunarDate.getDayOfWeekValue().name());
+        out.append(",\"moonCount\":").append(lunarDate.getMoonCount());
+        out.append(",\"moonStatus\":").append(lunarDate.getMoonStatus());
+        out.append(",\"lunarMonthValue\":").append(lunarDate.getLunarMonthValue());
+        out.append(",\"lunarZodiacValue\":").append(lunarDate.getLunarZodiacValue());
+        out.append(",\"lunarEraValue\":").append(lunarDate.getLunarEraValue());
+        out.append(",\"beYear\":").append(lunarDate.getBeYear());
+        return out.append('}');
+    }
+
+    /**
+     * Append the element of a date that could not be converted
+     */
+    static StringBuilder appendError(StringBuilder out, String date, String message) {
+        appendString(out.append("{\"date\":"), date);
+        appendString(out.append(",\"error\":"), message);
+        return out.append('}');
+    }
+
+    static StringBuilder appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        return out.append('"');
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.metheax;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Lunar months, Visakha Bochea days and new year date times calculated at build time and written into
+ * {@value #RESOURCE} next to this class. Chhankitek reads it once and calculates as usual outside its range.
+ * <p>
+ * Layout, big endian: magic, version, first and last gregorian year, first month start (epoch day),
+ * month count, one byte month id and one byte month length per month, then per gregorian year the
+ * Visakha Bochea epoch day and new year epoch minute, {@link #NONE} when it cannot be calculated.
+ * <p>
+ * Public only so exec-maven-plugin can run main in the build, everything else is package-private.
+ */
+public final class CalendarTable {
+
+    static final String RESOURCE = "chhankitek-table.bin";
+    static final int NONE = Integer.MIN_VALUE;
+    private static final int MAGIC = 0x4B434354; // KCCT
+    private static final int VERSION = 1;
+
+    private final int fromYear;
+    private final int toYear;
+    private final int[] monthStarts;
+    private final int[] months;
+    private final ByteBuffer years;
+
+    private CalendarTable(int fromYear, int toYear, int[] monthStarts, int[] months, ByteBuffer years) {
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.monthStarts = monthStarts;
+        this.months = months;
+        this.years = years;
+    }
+
+    /**
+     * @return table of the jar, null when the resource is missing or unreadable
+     */
+    static CalendarTable get() {
+        return Holder.table;
+    }
+
+    /**
+     * @return month starts (epoch day), one more than month ids, the last being the end of the last month
+     */
+    int[] getMonthStarts() {
+        return monthStarts.clone();
+    }
+
+    int[] getMonths() {
+        return months.clone();
+    }
+
+    int getVisakhaBocheaDay(int gregorianYear) {
+        if (gregorianYear < fromYear || gregorianYear > toYear) {
+            return NONE;
+        }
+        return years.getInt((gregorianYear - fromYear) * 8);
+    }
+
+    LocalDateTime getNewYearDateTime(int gregorianYear) {
+        if (gregorianYear < fromYear || gregorianYear > toYear) {
+            return null;
+        }
+        int minute = years.getInt((gregorianYear - fromYear) * 8 + 4);
+        return minute == NONE ? null : LocalDateTime.ofEpochSecond(minute * 60L, 0, ZoneOffset.UTC);
+    }
+
+    private static CalendarTable load() {
+        try (InputStream in = CalendarTable.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 * 1024);
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                bytes.write(chunk, 0, read);
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+            buffer.put(bytes.toByteArray()).flip();
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            int fromYear = buffer.getInt();
+            int toYear = buffer.getInt();
+            int firstMonthStart = buffer.getInt();
+            int monthCount = buffer.getInt();
+            int[] monthStarts = new int[monthCount + 1];
+            int[] months = new int[monthCount];
+            monthStarts[0] = firstMonthStart;
+            for (int i = 0; i < months.length; i++) {
+                months[i] = buffer.get();
+                monthStarts[i + 1] = monthStarts[i] + buffer.get();
+            }
+            return new CalendarTable(fromYear, toYear, monthStarts, months, buffer.slice());
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class Holder {
+        // loaded on first use, not when the build step below starts
+        private static final CalendarTable table = load();
+    }
+
+    static void write(OutputStream out, int fromYear, int toYear, int[] monthStarts, int[] months, int monthCount,
+                      int[] visakhaBocheaDays, int[] newYearMinutes) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(fromYear);
+        data.writeInt(toYear);
+        data.writeInt(monthStarts[0]);
+        data.writeInt(monthCount);
+        for (int i = 0; i < monthCount; i++) {
+            data.writeByte(months[i]);
+            data.writeByte(monthStarts[i + 1] - monthStarts[i]);
+        }
+        for (int i = 0; i <= toYear - fromYear; i++) {
+            data.writeInt(visakhaBocheaDays[i]);
+            data.writeInt(newYearMinutes[i]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Build step, writes the table for a range of gregorian years.
+     * @param args output file, first gregorian year, last gregorian year
+     */
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args[0]);
+        int fromYear = Integer.parseInt(args[1]);
+        int toYear = Integer.parseInt(args[2]);
+        // an old table on the classpath must not be read back while calculating the new one
+        Files.deleteIfExists(output);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            Chhankitek.writeCalendarTable(out, fromYear, toYear);
+        }
+        System.out.println("Khmer calendar table " + fromYear + "-" + toYear + " written to " + output
+                + " (" + Files.size(output) + " bytes)");
+    }
+}
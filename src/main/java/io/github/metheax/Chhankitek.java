@@ -1,14 +1,39 @@
 package io.github.metheax;
 
 import io.github.metheax.domain.KhmerLunarDate;
-import io.github.metheax.exception.KhmerMonthException;
+import io.github.metheax.domain.KhmerMonth;
+import io.github.metheax.domain.MonthGrid;
+import io.github.metheax.domain.PackedLunarDate;
+import io.github.metheax.exception.KhmerLunarDateException;
 import io.github.metheax.exception.VisakhabocheaException;
+import io.github.metheax.metrics.ChhankitekListener;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import static io.github.metheax.constant.Constant.*;
-import static io.github.metheax.utils.ChhankitekUtils.convertIntegerToKhmerNumber;
-import static io.github.metheax.utils.ChhankitekUtils.getDayOfWeekInKhmer;
 
 /**
  * Author: Kuylim TITH
@@ -16,8 +41,13 @@ import static io.github.metheax.utils.ChhankitekUtils.getDayOfWeekInKhmer;
  */
 public class Chhankitek {
 
-    private static LocalDateTime newYearDateTime;
-    private static final DateTimeFormatter yearFormat = DateTimeFormatter.ofPattern("YYYY");
+    private static final byte[] yearTypes = new byte[7348]; // getProtetinLeap + 1 by BE year, 0 until calculated
+    static final int[] SILA_DAYS = {7, 14, 22}; // ៨ កើត, ១៥ កើត, ៨ រោច
+    private static final int YEAR_CACHE_SIZE = 512;
+    private static final long SECONDS_PER_DAY = 86400;
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Phnom_Penh");
+    private static final AtomicReferenceArray<YearBoundary> visakhaBocheaDays = new AtomicReferenceArray<>(YEAR_CACHE_SIZE);
+    private static final AtomicReferenceArray<YearBoundary> newYearDateTimes = new AtomicReferenceArray<>(YEAR_CACHE_SIZE);
 
     private Chhankitek() {
     }
@@ -176,6 +206,23 @@ public class Chhankitek {
         return 0;
     }
 
+    /**
+     * Year type of a BE year, getProtetinLeap memoized for BE years 0 - 7347 (larger years overflow the calculation)
+     * @param beYear
+     * @returns {int} KhmerMonth.REGULAR_YEAR, KhmerMonth.LEAP_MONTH_YEAR or KhmerMonth.LEAP_DAY_YEAR
+     */
+    public static int getKhmerYearType(int beYear) {
+        if (beYear < 0 || beYear >= yearTypes.length) {
+            return getProtetinLeap(beYear);
+        }
+        int yearType = yearTypes[beYear] - 1;
+        if (yearType < 0) {
+            yearType = getProtetinLeap(beYear);
+            yearTypes[beYear] = (byte) (yearType + 1);
+        }
+        return yearType;
+    }
+
     /**
      * Maximum number of day in Khmer Month
      * @param beMonth
@@ -183,14 +230,7 @@ public class Chhankitek {
      * @returns {int}
      */
     private static int getNumberOfDayInKhmerMonth(int beMonth, int beYear) {
-        if (beMonth == LUNAR_MONTHS.get("ជេស្ឋ") && isKhmerLeapDay(beYear)) {
-            return 30;
-        }
-        if (beMonth == LUNAR_MONTHS.get("បឋមាសាឍ") || beMonth == LUNAR_MONTHS.get("ទុតិយាសាឍ")) {
-            return 30;
-        }
-        // មិគសិរ : 29 , បុស្ស : 30 , មាឃ : 29 .. 30 .. 29 ..30 .....
-        return beMonth % 2 == 0 ? 29 : 30;
+        return KhmerMonth.of(beMonth).getNumberOfDays(getKhmerYearType(beYear));
     }
 
     /**
@@ -198,8 +238,8 @@ public class Chhankitek {
      * @param beYear
      * @returns {boolean}
      */
-    private static boolean isKhmerLeapDay(int beYear) {
-        return getProtetinLeap(beYear) == 2;
+    public static boolean isKhmerLeapDay(int beYear) {
+        return getKhmerYearType(beYear) == KhmerMonth.LEAP_DAY_YEAR;
     }
 
     /**
@@ -208,8 +248,78 @@ public class Chhankitek {
      * @param beYear
      * @returns {boolean}
      */
-    private static boolean isKhmerLeapMonth(int beYear) {
-        return getProtetinLeap(beYear) == 1;
+    public static boolean isKhmerLeapMonth(int beYear) {
+        return getKhmerYearType(beYear) == KhmerMonth.LEAP_MONTH_YEAR;
+    }
+
+    /**
+     * @param fromBeYear first BE year, inclusive
+     * @param toBeYear last BE year, inclusive
+     * @returns {int} number of leap month years (អធិកមាស) in range
+     * @throws KhmerLunarDateException when a year is outside BE 0 - 7347
+     */
+    public static int countKhmerLeapMonthYears(int fromBeYear, int toBeYear) {
+        return countKhmerYearType(fromBeYear, toBeYear, KhmerMonth.LEAP_MONTH_YEAR);
+    }
+
+    /**
+     * @param fromBeYear first BE year, inclusive
+     * @param toBeYear last BE year, inclusive
+     * @returns {int} number of leap day years (ចន្ទ្រាធិមាស) in range
+     * @throws KhmerLunarDateException when a year is outside BE 0 - 7347
+     */
+    public static int countKhmerLeapDayYears(int fromBeYear, int toBeYear) {
+        return countKhmerYearType(fromBeYear, toBeYear, KhmerMonth.LEAP_DAY_YEAR);
+    }
+
+    /**
+     * @param beYear
+     * @returns {int} first leap month year (អធិកមាស) after beYear
+     * @throws KhmerLunarDateException when beYear or the year found is outside BE 0 - 7347
+     */
+    public static int nextKhmerLeapMonthYear(int beYear) {
+        return nextKhmerYearType(beYear, KhmerMonth.LEAP_MONTH_YEAR);
+    }
+
+    /**
+     * @param beYear
+     * @returns {int} first leap day year (ចន្ទ្រាធិមាស) after beYear
+     * @throws KhmerLunarDateException when beYear or the year found is outside BE 0 - 7347
+     */
+    public static int nextKhmerLeapDayYear(int beYear) {
+        return nextKhmerYearType(beYear, KhmerMonth.LEAP_DAY_YEAR);
+    }
+
+    private static int countKhmerYearType(int fromBeYear, int toBeYear, int yearType) {
+        checkMemoizedBeYear(fromBeYear);
+        checkMemoizedBeYear(toBeYear);
+        int count = 0;
+        for (int beYear = fromBeYear; beYear <= toBeYear; beYear++) {
+            if (getKhmerYearType(beYear) == yearType) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int nextKhmerYearType(int beYear, int yearType) {
+        checkMemoizedBeYear(beYear);
+        for (int next = beYear + 1; next < yearTypes.length; next++) {
+            if (getKhmerYearType(next) == yearType) {
+                return next;
+            }
+        }
+        throw new KhmerLunarDateException("No year of type " + yearType + " after BE year " + beYear
+                + " before BE year " + yearTypes.length);
+    }
+
+    /**
+     * Year types are only right for BE years 0 - 7347, larger years overflow the calculation
+     */
+    private static void checkMemoizedBeYear(int beYear) {
+        if (beYear < 0 || beYear >= yearTypes.length) {
+            throw new KhmerLunarDateException("BE year " + beYear + " is outside 0 - " + (yearTypes.length - 1));
+        }
     }
 
     /**
@@ -226,14 +336,37 @@ public class Chhankitek {
      * រកថ្ងៃវិសាខបូជា
      * ថ្ងៃដាច់ឆ្នាំពុទ្ធសករាជ
      */
-    private static LocalDateTime getVisakhaBochea(int gregorianYear) {
-        LocalDateTime date = LocalDateTime.of(gregorianYear, 1, 1, 0, 0, 0, 0);
-        for (int i = 0; i < 365; i++) {
-            LunarDate lunarDate = findLunarDate(date);
-            if (LUNAR_MONTHS.get("ពិសាខ") == lunarDate.month && lunarDate.day == 14) {
-                return date;
+    static LocalDateTime getVisakhaBochea(int gregorianYear) {
+        return getYearBoundary(visakhaBocheaDays, gregorianYear, Chhankitek::findVisakhaBochea).dateTime;
+    }
+
+    /**
+     * @return epoch day of ថ្ងៃវិសាខបូជា, the last day of BE year gregorianYear + 543
+     */
+    static long getVisakhaBocheaDay(int gregorianYear) {
+        return getYearBoundary(visakhaBocheaDays, gregorianYear, Chhankitek::findVisakhaBochea).firstDay - 1;
+    }
+
+    /**
+     * ១៥ កើត ខែពិសាខ within the first 365 days of the gregorian year, read from the lunar month index
+     */
+    private static YearBoundary findVisakhaBochea(int gregorianYear) {
+        CalendarTable table = CalendarTable.get();
+        if (table != null && table.getVisakhaBocheaDay(gregorianYear) != CalendarTable.NONE) {
+            long visakhaBocheaDay = table.getVisakhaBocheaDay(gregorianYear);
+            return new YearBoundary(gregorianYear, LocalDate.ofEpochDay(visakhaBocheaDay).atStartOfDay(), visakhaBocheaDay + 1);
+        }
+        long firstDay = LocalDate.of(gregorianYear, 1, 1).toEpochDay();
+        long lastDay = firstDay + 365;
+        if (firstDay >= LunarMonthIndex.EPOCH_DAY) {
+            LunarMonthIndex index = LunarMonthIndex.covering(lastDay);
+            for (int i = index.indexOf(firstDay); i < index.size && index.starts[i] + 14 < lastDay; i++) {
+                if (index.months[i] == KhmerMonth.PISAKH.getValue() && index.starts[i] + 14 >= firstDay) {
+                    long visakhaBocheaDay = index.starts[i] + 14L;
+                    // ពុទ្ធសករាជ changes after ថ្ងៃវិសាខបូជា
+                    return new YearBoundary(gregorianYear, LocalDate.ofEpochDay(visakhaBocheaDay).atStartOfDay(), visakhaBocheaDay + 1);
+                }
             }
-            date = date.plus(1, ChronoUnit.DAYS);
         }
         throw new VisakhabocheaException("Cannot find Visakhabochea day.");
     }
@@ -243,78 +376,206 @@ public class Chhankitek {
      * @param target : LocalDateTime
      * @returns LunarDate
      */
-    private static LunarDate findLunarDate(LocalDateTime target) {
+    static LunarDate findLunarDate(LocalDateTime target) {
+        LocalDate date = target.toLocalDate();
+        long epochDay = date.toEpochDay();
+        int khmerMonth = KhmerMonth.BOSS.getValue();
+        int khmerDay; // 0 - 29 ១កើត ... ១៥កើត ១រោច ...១៤រោច (១៥រោច)
+
+        if (epochDay < LunarMonthIndex.EPOCH_DAY) {
+            // Before epoch date, nothing to walk
+            khmerDay = (int) (epochDay - LunarMonthIndex.EPOCH_DAY);
+        } else {
+            LunarMonthIndex index = LunarMonthIndex.covering(epochDay);
+            int i = index.indexOf(epochDay);
+            khmerDay = (int) (epochDay - index.starts[i]);
+            khmerMonth = index.months[i];
+        }
+        return new LunarDate(khmerDay, khmerMonth, date.atStartOfDay());
+    }
+
+    /**
+     * Start day and month of every lunar month since the epoch date (January 1, 1900), same walk as the original
+     * month by month calculation. Walked forward one gregorian year at a time and only when a later date is asked for.
+     * A published index is never modified below its size, so readers need no lock, and a month keeps its position.
+     */
+    static final class LunarMonthIndex {
         // Epoch Date: January 1, 1900
-        LocalDateTime epochDateTime = LocalDateTime.of(1900, 1, 1, 0, 0, 0, 0);
-        int khmerMonth = LUNAR_MONTHS.get("បុស្ស");
-        int khmerDay = 0; // 0 - 29 ១កើត ... ១៥កើត ១រោច ...១៤រោច (១៥រោច)
+        static final long EPOCH_DAY = LocalDate.of(1900, 1, 1).toEpochDay();
+        private static volatile LunarMonthIndex current = initial();
+
+        final int[] starts; // starts[i] = first epoch day of month i, starts[size] = end of last month
+        final int[] months;
+        final int size;
 
-        // Move epoch month
-        while (ChronoUnit.DAYS.between(epochDateTime, target) > getNumberOfDayInKhmerMonth(khmerMonth, getMaybeBEYear(epochDateTime))) {
-            epochDateTime = epochDateTime.plus(getNumberOfDayInKhmerMonth(khmerMonth, getMaybeBEYear(epochDateTime)), ChronoUnit.DAYS);
-            khmerMonth = nextMonthOf(khmerMonth, getMaybeBEYear(epochDateTime));
+        private LunarMonthIndex(int[] starts, int[] months, int size) {
+            this.starts = starts;
+            this.months = months;
+            this.size = size;
         }
 
-        khmerDay += ChronoUnit.DAYS.between(epochDateTime, target);
+        private static LunarMonthIndex initial() {
+            CalendarTable table = CalendarTable.get();
+            if (table == null) {
+                return new LunarMonthIndex(new int[]{(int) EPOCH_DAY, 0}, new int[]{KhmerMonth.BOSS.getValue(), 0}, 0);
+            }
+            int[] starts = table.getMonthStarts();
+            int[] months = Arrays.copyOf(table.getMonths(), starts.length);
+            int size = months.length - 1;
+            // the walk continues from the month starting at starts[size], which the table does not store
+            months[size] = nextMonthOf(months[size - 1], getMaybeBEYear(starts[size]));
+            return new LunarMonthIndex(starts, months, size);
+        }
 
         /**
-         * Fix result display 15 រោច ខែ ជេស្ឋ នៅថ្ងៃ ១ កើតខែបឋមាសាធ
-         * ករណី ខែជេស្ឋមានតែ ២៩ ថ្ងៃ តែលទ្ធផលបង្ហាញ ១៥រោច ខែជេស្ឋ
+         * @return index as walked so far, holds every position already handed out
          */
-        int totalDaysOfTheMonth = getNumberOfDayInKhmerMonth(khmerMonth, getMaybeBEYear(target));
-        if (totalDaysOfTheMonth <= khmerDay) {
-            khmerDay = khmerDay % totalDaysOfTheMonth;
-            khmerMonth = nextMonthOf(khmerMonth, getMaybeBEYear(epochDateTime));
+        static LunarMonthIndex get() {
+            return current;
+        }
+
+        static LunarMonthIndex covering(long epochDay) {
+            LunarMonthIndex index = current;
+            ChhankitekListener listener = ChhankitekMetrics.listener;
+            if (index.size > 0 && index.starts[index.size] > epochDay) {
+                if (listener != null) {
+                    listener.onCacheHit(ChhankitekListener.Cache.LUNAR_MONTH_INDEX);
+                }
+                return index;
+            }
+            synchronized (LunarMonthIndex.class) {
+                index = current;
+                if (index.size > 0 && index.starts[index.size] > epochDay) {
+                    if (listener != null) {
+                        listener.onCacheHit(ChhankitekListener.Cache.LUNAR_MONTH_INDEX);
+                    }
+                    return index;
+                }
+                long until = LocalDate.ofEpochDay(epochDay).plusYears(1).withDayOfYear(1).toEpochDay();
+                int[] starts = index.starts;
+                int[] months = index.months;
+                int size = index.size;
+                while (size == 0 || starts[size] < until) {
+                    if (size + 2 > starts.length) {
+                        starts = Arrays.copyOf(starts, starts.length + 256);
+                        months = Arrays.copyOf(months, months.length + 256);
+                    }
+                    int start = starts[size];
+                    int end = start + getNumberOfDayInKhmerMonth(months[size], getMaybeBEYear(start));
+                    starts[size + 1] = end;
+                    months[size + 1] = nextMonthOf(months[size], getMaybeBEYear(end));
+                    size++;
+                }
+                if (listener != null) {
+                    listener.onCacheMiss(ChhankitekListener.Cache.LUNAR_MONTH_INDEX);
+                    listener.onLunarMonthSteps(size - index.size);
+                }
+                index = new LunarMonthIndex(starts, months, size);
+                current = index;
+                return index;
+            }
+        }
+
+        int indexOf(long epochDay) {
+            int low = 0;
+            int high = size - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (starts[mid] <= epochDay) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Calculate Khmer new year, Visakha Bochea and lunar months of given gregorian years ahead of time
+     * so the first conversions in that range do not pay for it.
+     * @param fromGregorianYear first year, inclusive
+     * @param toGregorianYear last year, inclusive
+     */
+    public static void preload(int fromGregorianYear, int toGregorianYear) {
+        for (int year = fromGregorianYear; year <= toGregorianYear; year++) {
+            getKhmerNewYearDateTime(year);
+            getVisakhaBochea(year);
         }
-        epochDateTime = epochDateTime.plus(ChronoUnit.DAYS.between(epochDateTime, target), ChronoUnit.DAYS);
+    }
 
-        return new LunarDate(khmerDay, khmerMonth, epochDateTime);
+    /**
+     * ថ្ងៃ ខែ ឆ្នាំ ម៉ោង និង នាទី ចូលឆ្នាំ
+     */
+    static LocalDateTime getKhmerNewYearDateTime(int gregorianYear) {
+        return getYearBoundary(newYearDateTimes, gregorianYear, Chhankitek::findKhmerNewYear).dateTime;
     }
 
-    private static int getJolakSakarajYear(LocalDateTime date) {
-        int gregorianYear = Integer.parseInt(yearFormat.format(date));
-        if (ChronoUnit.MILLIS.between(newYearDateTime, date) < 0) {
-            return gregorianYear + 543 - 1182;
+    private static YearBoundary findKhmerNewYear(int gregorianYear) {
+        CalendarTable table = CalendarTable.get();
+        LocalDateTime dateTime = table == null ? null : table.getNewYearDateTime(gregorianYear);
+        if (dateTime == null) {
+            dateTime = calculateKhmerNewYearDateTime(gregorianYear);
         }
-        return gregorianYear + 544 - 1182;
+        long firstDay = dateTime.toLocalDate().toEpochDay();
+        // ឆ្នាំសត្វ និង ស័ក change at ម៉ោងទេវតាចុះ, so that day's midnight still belongs to the old year
+        if (dateTime.toLocalTime().isAfter(LocalTime.MIDNIGHT)) {
+            firstDay++;
+        }
+        return new YearBoundary(gregorianYear, dateTime, firstDay);
     }
 
-    private static int getAnimalYear(LocalDateTime date) {
-        int gregorianYear = Integer.parseInt(yearFormat.format(date));
-        newYearDateTime = getKhmerNewYearDateTime(gregorianYear);
-        if (ChronoUnit.MILLIS.between(newYearDateTime, date) < 0) {
-            return (gregorianYear + 543 + 4) % 12;
+    /**
+     * Per gregorian year value cached in a fixed number of slots, a slot holds the last year calculated into it
+     */
+    private static YearBoundary getYearBoundary(AtomicReferenceArray<YearBoundary> cache, int gregorianYear,
+                                                IntFunction<YearBoundary> calculate) {
+        int slot = Math.floorMod(gregorianYear, YEAR_CACHE_SIZE);
+        YearBoundary cached = cache.get(slot);
+        ChhankitekListener listener = ChhankitekMetrics.listener;
+        if (cached != null && cached.gregorianYear == gregorianYear) {
+            if (listener != null) {
+                listener.onCacheHit(cache == visakhaBocheaDays ? ChhankitekListener.Cache.VISAKHA_BOCHEA
+                        : ChhankitekListener.Cache.KHMER_NEW_YEAR);
+            }
+            return cached;
         }
-        return (gregorianYear + 544 + 4) % 12;
+        if (listener != null) {
+            listener.onCacheMiss(cache == visakhaBocheaDays ? ChhankitekListener.Cache.VISAKHA_BOCHEA
+                    : ChhankitekListener.Cache.KHMER_NEW_YEAR);
+        }
+        cached = calculate.apply(gregorianYear);
+        cache.set(slot, cached);
+        return cached;
     }
 
-    private static LocalDateTime getKhmerNewYearDateTime(int gregorianYear) {
+    private static LocalDateTime calculateKhmerNewYearDateTime(int gregorianYear) {
         // ពីគ្រិស្ដសករាជ ទៅ ចុល្លសករាជ
         int jsYear = (gregorianYear + 544) - 1182;
-        KhmerNewYearCal info = new KhmerNewYearCal(jsYear);
-        int numberNewYearDay = 0;
-        if (info.getKhmerNewYear().getNewYearsDaySotins().get(0).getAngsar() == 0) { // ថ្ងៃ ខែ ឆ្នាំ ម៉ោង និង នាទី ចូលឆ្នាំ
-            // ចូលឆ្នាំ ៤ ថ្ងៃ
-            numberNewYearDay = 4;
-        } else {
-            // ចូលឆ្នាំ ៣ ថ្ងៃ
-            numberNewYearDay = 3;
-        }
-        LocalDateTime epochLerngSak = LocalDateTime.of(gregorianYear, 4, 17,
-                info.getKhmerNewYear().getTimeOfNewYear().getHour(), info.getKhmerNewYear().getTimeOfNewYear().getMinute());
-        LunarDate lunarDate = findLunarDate(epochLerngSak);
+        return getKhmerNewYearDateTime(gregorianYear, new KhmerNewYearCal(jsYear));
+    }
+
+    /**
+     * ថ្ងៃ ខែ ឆ្នាំ ម៉ោង និង នាទី ចូលឆ្នាំ from new year info of the gregorian year
+     */
+    static LocalDateTime getKhmerNewYearDateTime(int gregorianYear, KhmerNewYearCal info) {
+        int numberNewYearDay = info.getNumberOfNewYearDays();
+        LocalDate epochLerngSak = LocalDate.of(gregorianYear, 4, 17);
+        LunarDate lunarDate = findLunarDate(epochLerngSak.atStartOfDay());
         int diffFromEpoch = (((lunarDate.month - 4) * 30) + lunarDate.day) -
-                (((info.getKhmerNewYear().getLunarDateLerngSak().getMonth() - 4) * 30)
-                        + info.getKhmerNewYear().getLunarDateLerngSak().getDay());
-        return epochLerngSak.minus((diffFromEpoch + numberNewYearDay - 1), ChronoUnit.DAYS);
+                (((info.getLunarDateLerngSak().getMonth() - 4) * 30)
+                        + info.getLunarDateLerngSak().getDay());
+        // ម៉ោងទេវតាចុះ can be 24:00, the midnight ending ថ្ងៃមហាសង្ក្រាន្ត, so time is added after counting the days
+        return epochLerngSak.minus((diffFromEpoch + numberNewYearDay - 1), ChronoUnit.DAYS).atStartOfDay()
+                .plusMinutes(info.getTimeOfNewYear().getHour() * 60L + info.getTimeOfNewYear().getMinute());
     }
 
-    private static int getBeYear(LocalDateTime date) {
-        int tmp = Integer.parseInt(yearFormat.format(date));
-        if (ChronoUnit.MILLIS.between(getVisakhaBochea(tmp), date) > 0) {
-            return tmp + 544;
-        }
-        return tmp + 543;
+    /**
+     * ថ្ងៃមហាសង្ក្រាន្ត, the day ម៉ោងទេវតាចុះ belongs to: a new year at 24:00 is the midnight after it
+     */
+    static LocalDate getMahaSangkranDay(LocalDateTime newYearDateTime) {
+        LocalDate date = newYearDateTime.toLocalDate();
+        return newYearDateTime.toLocalTime().equals(LocalTime.MIDNIGHT) ? date.minusDays(1) : date;
     }
 
     private static LunarDay getKhmerLunarDay(int day) {
@@ -324,62 +585,504 @@ public class Chhankitek {
     }
 
     public static KhmerLunarDate toKhmerLunarDateFormat(LocalDateTime target) {
+        return toKhmerLunarDate(target.toLocalDate().toEpochDay(), target.toLocalTime().toNanoOfDay());
+    }
 
-        LunarDate lunarDate = findLunarDate(target);
-        LunarDay khmerLunarDay = getKhmerLunarDay(lunarDate.day);
-        String lunarDay = String.format("%s %s", convertIntegerToKhmerNumber(khmerLunarDay.moonCount),
-                khmerLunarDay.moonStatus == 0 ? "កើត" : "រោច");
-        int beYear = getBeYear(target);
-        int lunarZodiac = getAnimalYear(target);
-        int lunarEra = getJolakSakarajYear(target) % 10;
-        return new KhmerLunarDate(getDayOfWeekInKhmer(target), lunarDay, LUNAR_MONTHS_FORMAT.get(lunarDate.month), ANIMAL_YEAR.get(lunarZodiac),
-                ERA_YEAR.get(lunarEra), convertIntegerToKhmerNumber(beYear));
+    /**
+     * Khmer lunar date of given day at midnight
+     * @param date : LocalDate
+     * @return KhmerLunarDate
+     */
+    public static KhmerLunarDate toKhmerLunarDateFormat(LocalDate date) {
+        return toKhmerLunarDate(date.toEpochDay(), 0);
     }
 
-    private static int nextMonthOf(int khmerMonth, int beYear) {
-        if (khmerMonth == LUNAR_MONTHS.get("មិគសិរ"))
-            return LUNAR_MONTHS.get("បុស្ស");
-        if (khmerMonth == LUNAR_MONTHS.get("បុស្ស"))
-            return LUNAR_MONTHS.get("មាឃ");
-        if (khmerMonth == LUNAR_MONTHS.get("មាឃ"))
-            return LUNAR_MONTHS.get("ផល្គុន");
-        if (khmerMonth == LUNAR_MONTHS.get("ផល្គុន"))
-            return LUNAR_MONTHS.get("ចេត្រ");
-        if (khmerMonth == LUNAR_MONTHS.get("ចេត្រ"))
-            return LUNAR_MONTHS.get("ពិសាខ");
-        if (khmerMonth == LUNAR_MONTHS.get("ពិសាខ"))
-            return LUNAR_MONTHS.get("ជេស្ឋ");
-        if (khmerMonth == LUNAR_MONTHS.get("ជេស្ឋ")) {
-            if (isKhmerLeapMonth(beYear)) {
-                return LUNAR_MONTHS.get("បឋមាសាឍ");
-            } else {
-                return LUNAR_MONTHS.get("អាសាឍ");
+    /**
+     * Khmer lunar date at the local date and time of given ZonedDateTime
+     * @param target : ZonedDateTime
+     * @return KhmerLunarDate
+     */
+    public static KhmerLunarDate toKhmerLunarDateFormat(ZonedDateTime target) {
+        return toKhmerLunarDate(target.toLocalDate().toEpochDay(), target.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * Khmer lunar date of given instant in Asia/Phnom_Penh
+     * @param instant : Instant
+     * @return KhmerLunarDate
+     */
+    public static KhmerLunarDate toKhmerLunarDateFormat(Instant instant) {
+        return toKhmerLunarDateFormat(instant, DEFAULT_ZONE);
+    }
+
+    /**
+     * Khmer lunar date of given instant in a time zone
+     * @param instant : Instant
+     * @param zone : ZoneId the local date and time are taken in
+     * @return KhmerLunarDate
+     */
+    public static KhmerLunarDate toKhmerLunarDateFormat(Instant instant, ZoneId zone) {
+        return toKhmerLunarDate(instant.getEpochSecond(), instant.getNano(), zone);
+    }
+
+    /**
+     * Khmer lunar date of given milliseconds from 1970-01-01T00:00:00Z in Asia/Phnom_Penh
+     * @param epochMilli : milliseconds from 1970-01-01T00:00:00Z
+     * @return KhmerLunarDate
+     */
+    public static KhmerLunarDate toKhmerLunarDateFormat(long epochMilli) {
+        return toKhmerLunarDateFormat(epochMilli, DEFAULT_ZONE);
+    }
+
+    /**
+     * Khmer lunar date of given milliseconds from 1970-01-01T00:00:00Z in a time zone
+     * @param epochMilli : milliseconds from 1970-01-01T00:00:00Z
+     * @param zone : ZoneId the local date and time are taken in
+     * @return KhmerLunarDate
+     */
+    public static KhmerLunarDate toKhmerLunarDateFormat(long epochMilli, ZoneId zone) {
+        return toKhmerLunarDate(Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, zone);
+    }
+
+    private static KhmerLunarDate toKhmerLunarDate(long epochSecond, int nano, ZoneId zone) {
+        ZoneRules rules = zone.getRules();
+        ZoneOffset offset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : rules.getOffset(Instant.ofEpochSecond(epochSecond));
+        long localSecond = epochSecond + offset.getTotalSeconds();
+        return toKhmerLunarDate(Math.floorDiv(localSecond, SECONDS_PER_DAY),
+                Math.floorMod(localSecond, SECONDS_PER_DAY) * 1_000_000_000L + nano);
+    }
+
+    /**
+     * Every overload ends here, timed when a ChhankitekListener is set
+     */
+    private static KhmerLunarDate toKhmerLunarDate(long epochDay, long nanoOfDay) {
+        ChhankitekListener listener = ChhankitekMetrics.listener;
+        if (listener == null) {
+            return calculateKhmerLunarDate(epochDay, nanoOfDay);
+        }
+        long start = System.nanoTime();
+        KhmerLunarDate lunarDate = calculateKhmerLunarDate(epochDay, nanoOfDay);
+        listener.onConversion(System.nanoTime() - start);
+        return lunarDate;
+    }
+
+    /**
+     * Lunar day from the month index, BE year and new year compared on (epoch day, nano of day)
+     */
+    private static KhmerLunarDate calculateKhmerLunarDate(long epochDay, long nanoOfDay) {
+        int khmerMonth = KhmerMonth.BOSS.getValue();
+        int khmerDay;
+        if (epochDay < LunarMonthIndex.EPOCH_DAY) {
+            // Before epoch date, nothing to walk
+            khmerDay = (int) (epochDay - LunarMonthIndex.EPOCH_DAY);
+        } else {
+            LunarMonthIndex index = LunarMonthIndex.covering(epochDay);
+            int i = index.indexOf(epochDay);
+            khmerDay = (int) (epochDay - index.starts[i]);
+            khmerMonth = index.months[i];
+        }
+        int gregorianYear = getGregorianYear(epochDay);
+        YearBoundary visakhaBochea = getYearBoundary(visakhaBocheaDays, gregorianYear, Chhankitek::findVisakhaBochea);
+        YearBoundary newYear = getYearBoundary(newYearDateTimes, gregorianYear, Chhankitek::findKhmerNewYear);
+        // ពុទ្ធសករាជ changes after midnight of ថ្ងៃវិសាខបូជា, ឆ្នាំសត្វ និង ស័ក at ម៉ោងទេវតាចុះ
+        int beYear = visakhaBochea.compareTo(epochDay, nanoOfDay) < 0 ? gregorianYear + 544 : gregorianYear + 543;
+        int yearOffset = newYear.compareTo(epochDay, nanoOfDay) > 0 ? 543 : 544;
+        return toKhmerLunarDate(getDayOfWeek(epochDay), khmerDay, khmerMonth, beYear,
+                (gregorianYear + yearOffset + 4) % 12, (gregorianYear + yearOffset - 1182) % 10);
+    }
+
+    /**
+     * Khmer lunar date of given day packed into one int, decode it with PackedLunarDate.
+     * Same result as toKhmerLunarDateFormat at midnight, without building any object once the year is cached.
+     * @param epochDay day count from 1970-01-01
+     * @return packed lunar date
+     */
+    public static int toPackedLunar(long epochDay) {
+        int gregorianYear = getGregorianYear(epochDay);
+        YearBoundary visakhaBochea = getYearBoundary(visakhaBocheaDays, gregorianYear, Chhankitek::findVisakhaBochea);
+        YearBoundary newYear = getYearBoundary(newYearDateTimes, gregorianYear, Chhankitek::findKhmerNewYear);
+        LunarMonthIndex index = LunarMonthIndex.covering(epochDay);
+        int i = index.indexOf(epochDay);
+        int beYear = epochDay < visakhaBochea.firstDay ? gregorianYear + 543 : gregorianYear + 544;
+        int yearOffset = epochDay < newYear.firstDay ? 543 : 544;
+        return PackedLunarDate.pack(beYear, index.months[i], (int) (epochDay - index.starts[i]),
+                (gregorianYear + yearOffset + 4) % 12, (gregorianYear + yearOffset - 1182) % 10);
+    }
+
+    /**
+     * Gregorian date of a Khmer lunar date, e.g. ១៥ កើត ខែមាឃ ព.ស. ២៥៧០
+     * @param beYear year in Buddhist Era, starts on ១ រោច ខែពិសាខ
+     * @param lunarMonth value of Constant.LUNAR_MONTHS
+     * @param moonCount 1 - 15
+     * @param moonStatus value of Constant.MOON_STATUS
+     * @return LocalDate
+     */
+    public static LocalDate toGregorian(int beYear, int lunarMonth, int moonCount, int moonStatus) {
+        return toGregorian(beYear, KhmerMonth.of(lunarMonth), moonCount, moonStatus);
+    }
+
+    /**
+     * Gregorian date of a Khmer lunar date, e.g. ១៥ កើត ខែមាឃ ព.ស. ២៥៧០
+     * @param beYear year in Buddhist Era, starts on ១ រោច ខែពិសាខ
+     * @param khmerMonth KhmerMonth
+     * @param moonCount 1 - 15
+     * @param moonStatus value of Constant.MOON_STATUS
+     * @return LocalDate
+     */
+    public static LocalDate toGregorian(int beYear, KhmerMonth khmerMonth, int moonCount, int moonStatus) {
+        int lunarMonth = khmerMonth.getValue();
+        if (moonCount < 1 || moonCount > 15 || (moonStatus != MOON_STATUS.get("កើត") && moonStatus != MOON_STATUS.get("រោច"))) {
+            throw new KhmerLunarDateException("Invalid lunar day " + moonCount + " with moon status " + moonStatus);
+        }
+        int day = moonStatus * 15 + moonCount - 1;
+        // BE year starts the day after ថ្ងៃវិសាខបូជា of this gregorian year and ends on the next one
+        long visakhaBocheaDay = getVisakhaBocheaDay(beYear - 544);
+        LunarMonthIndex index = LunarMonthIndex.covering(visakhaBocheaDay + 400);
+        int i = index.indexOf(visakhaBocheaDay);
+        boolean beforeVisakhaBochea = lunarMonth == KhmerMonth.PISAKH.getValue() && day <= 14;
+        if (lunarMonth != KhmerMonth.PISAKH.getValue() || beforeVisakhaBochea) {
+            do {
+                i++;
+            } while (index.months[i] != lunarMonth && index.months[i] != KhmerMonth.PISAKH.getValue());
+            if (index.months[i] != lunarMonth) {
+                throw new KhmerLunarDateException("No month " + khmerMonth.getKhmerName() + " in BE year " + beYear);
+            }
+        }
+        if (day >= index.starts[i + 1] - index.starts[i]) {
+            throw new KhmerLunarDateException("Month " + khmerMonth.getKhmerName() + " of BE year " + beYear
+                    + " has only " + (index.starts[i + 1] - index.starts[i]) + " days");
+        }
+        return LocalDate.ofEpochDay(index.starts[i] + (long) day);
+    }
+
+    /**
+     * Khmer lunar dates of every day from {@code from} (inclusive) to {@code to} (exclusive), taken at midnight.
+     * The lunar month, Visakha Bochea and new year are looked up once, then carried forward day by day.
+     * @param from first day, inclusive
+     * @param to last day, exclusive
+     * @return lazy, ordered stream of KhmerLunarDate
+     */
+    public static Stream<KhmerLunarDate> range(LocalDate from, LocalDate to) {
+        long size = Math.max(0, to.toEpochDay() - from.toEpochDay());
+        return StreamSupport.stream(Spliterators.spliterator(new LunarDateCursor(from.toEpochDay(), to.toEpochDay()), size,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * ថ្ងៃសីល of a gregorian year: ៨ កើត, ១៥ កើត, ៨ រោច and the last រោច day (១៤ រោច or ១៥ រោច) of every month,
+     * read from the lunar month index
+     * @param gregorianYear from 1900
+     * @return epoch days in ascending order
+     */
+    public static long[] silaDays(int gregorianYear) {
+        long firstDay = LocalDate.of(gregorianYear, 1, 1).toEpochDay();
+        long nextYearDay = LocalDate.of(gregorianYear + 1, 1, 1).toEpochDay();
+        if (firstDay < LunarMonthIndex.EPOCH_DAY) {
+            throw new KhmerLunarDateException("Lunar months are calculated from 1900");
+        }
+        LunarMonthIndex index = LunarMonthIndex.covering(nextYearDay - 1);
+        long[] days = new long[4 * 14];
+        int count = 0;
+        for (int i = index.indexOf(firstDay); i < index.size && index.starts[i] < nextYearDay; i++) {
+            for (int day : SILA_DAYS) {
+                long silaDay = index.starts[i] + (long) day;
+                if (silaDay >= firstDay && silaDay < nextYearDay) {
+                    days[count++] = silaDay;
+                }
+            }
+            long lastDay = index.starts[i + 1] - 1L;
+            if (lastDay >= firstDay && lastDay < nextYearDay) {
+                days[count++] = lastDay;
+            }
+        }
+        return Arrays.copyOf(days, count);
+    }
+
+    /**
+     * Calendar page of a gregorian month: whole weeks from the week of its first day to the week of its last day.
+     * The month index is searched once for the first cell, the other cells follow it month entry by month entry.
+     * @param yearMonth from January 1900, its first week must not start in 1899
+     * @param firstDayOfWeek day of week of the first column, e.g. DayOfWeek.SUNDAY
+     * @return MonthGrid, 4 to 6 weeks
+     */
+    public static MonthGrid monthGrid(YearMonth yearMonth, DayOfWeek firstDayOfWeek) {
+        long firstOfMonth = yearMonth.atDay(1).toEpochDay();
+        int leadingDays = Math.floorMod(getDayOfWeek(firstOfMonth).getValue() - firstDayOfWeek.getValue(), 7);
+        int[] cells = new int[(leadingDays + yearMonth.lengthOfMonth() + 6) / 7 * 7];
+        long firstDay = firstOfMonth - leadingDays;
+        if (firstDay < LunarMonthIndex.EPOCH_DAY) {
+            throw new KhmerLunarDateException("Lunar months are calculated from 1900");
+        }
+        LunarMonthIndex index = LunarMonthIndex.covering(firstDay + cells.length - 1);
+        int i = index.indexOf(firstDay);
+        int gregorianYear = Integer.MIN_VALUE;
+        long nextYearDay = Long.MIN_VALUE;
+        YearBoundary visakhaBochea = null;
+        YearBoundary newYear = null;
+        long silaDays = 0;
+        for (int cell = 0; cell < cells.length; cell++) {
+            long epochDay = firstDay + cell;
+            if (epochDay >= nextYearDay) {
+                gregorianYear = getGregorianYear(epochDay);
+                nextYearDay = getFirstDayOfGregorianYear(gregorianYear + 1);
+                visakhaBochea = getYearBoundary(visakhaBocheaDays, gregorianYear, Chhankitek::findVisakhaBochea);
+                newYear = getYearBoundary(newYearDateTimes, gregorianYear, Chhankitek::findKhmerNewYear);
+            }
+            if (epochDay >= index.starts[i + 1]) {
+                i++;
+            }
+            int day = (int) (epochDay - index.starts[i]);
+            if (day == SILA_DAYS[0] || day == SILA_DAYS[1] || day == SILA_DAYS[2] || epochDay == index.starts[i + 1] - 1) {
+                silaDays |= 1L << cell;
+            }
+            int beYear = epochDay < visakhaBochea.firstDay ? gregorianYear + 543 : gregorianYear + 544;
+            int yearOffset = epochDay < newYear.firstDay ? 543 : 544;
+            cells[cell] = PackedLunarDate.pack(beYear, index.months[i], day,
+                    (gregorianYear + yearOffset + 4) % 12, (gregorianYear + yearOffset - 1182) % 10);
+        }
+        return new MonthGrid(yearMonth, firstDayOfWeek, firstDay, cells, silaDays);
+    }
+
+    /**
+     * Convert many dates in parallel on the common ForkJoinPool, see convertAll(LocalDateTime[], ForkJoinPool)
+     */
+    public static KhmerLunarDate[] convertAll(LocalDateTime[] targets) {
+        return convertAll(targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Convert many dates in parallel, same result as toKhmerLunarDateFormat on each of them.
+     * Dates are grouped by gregorian year so every year's Visakha Bochea and new year are calculated once,
+     * then the groups are split across the pool.
+     * @param targets dates in any order
+     * @param pool ForkJoinPool to run on
+     * @return KhmerLunarDate of each target, in the same order
+     */
+    public static KhmerLunarDate[] convertAll(LocalDateTime[] targets, ForkJoinPool pool) {
+        KhmerLunarDate[] result = new KhmerLunarDate[targets.length];
+        if (targets.length == 0) {
+            return result;
+        }
+        int minYear = Integer.MAX_VALUE;
+        int maxYear = Integer.MIN_VALUE;
+        long maxEpochDay = Long.MIN_VALUE;
+        for (LocalDateTime target : targets) {
+            minYear = Math.min(minYear, target.getYear());
+            maxYear = Math.max(maxYear, target.getYear());
+            maxEpochDay = Math.max(maxEpochDay, target.toLocalDate().toEpochDay());
+        }
+        int[] order = orderByYear(targets, minYear, maxYear);
+        if (maxEpochDay >= LunarMonthIndex.EPOCH_DAY) {
+            LunarMonthIndex.covering(maxEpochDay);
+        }
+        pool.invoke(new ConvertTask(targets, order, 0, order.length, result));
+        return result;
+    }
+
+    /**
+     * Convert many dates in parallel on the common ForkJoinPool, see convertAll(LocalDateTime[], ForkJoinPool)
+     */
+    public static List<KhmerLunarDate> convertAll(Collection<LocalDateTime> targets) {
+        return convertAll(targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Convert many dates in parallel, see convertAll(LocalDateTime[], ForkJoinPool)
+     * @param targets dates in any order
+     * @param pool ForkJoinPool to run on
+     * @return KhmerLunarDate of each target, in iteration order
+     */
+    public static List<KhmerLunarDate> convertAll(Collection<LocalDateTime> targets, ForkJoinPool pool) {
+        return Arrays.asList(convertAll(targets.toArray(new LocalDateTime[0]), pool));
+    }
+
+    /**
+     * Indexes of targets grouped by gregorian year, counting sort when the span of years is small
+     */
+    private static int[] orderByYear(LocalDateTime[] targets, int minYear, int maxYear) {
+        int[] order = new int[targets.length];
+        if ((long) maxYear - minYear < 1 << 16) {
+            int[] next = new int[maxYear - minYear + 2];
+            for (LocalDateTime target : targets) {
+                next[target.getYear() - minYear + 1]++;
+            }
+            for (int i = 1; i < next.length; i++) {
+                next[i] += next[i - 1];
+            }
+            for (int i = 0; i < targets.length; i++) {
+                order[next[targets[i].getYear() - minYear]++] = i;
+            }
+            return order;
+        }
+        long[] keys = new long[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            keys[i] = ((long) targets[i].getYear() << 32) | i;
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    private static final class ConvertTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int THRESHOLD = 1024;
+
+        private final LocalDateTime[] targets;
+        private final int[] order;
+        private final int from;
+        private final int to;
+        private final KhmerLunarDate[] result;
+
+        private ConvertTask(LocalDateTime[] targets, int[] order, int from, int to, KhmerLunarDate[] result) {
+            this.targets = targets;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConvertTask(targets, order, from, middle, result),
+                        new ConvertTask(targets, order, middle, to, result));
+                return;
+            }
+            // same year in a row, so Visakha Bochea and new year come from the same cache slot
+            for (int i = from; i < to; i++) {
+                result[order[i]] = toKhmerLunarDateFormat(targets[order[i]]);
             }
         }
-        if (khmerMonth == LUNAR_MONTHS.get("អាសាឍ"))
-            return LUNAR_MONTHS.get("ស្រាពណ៍");
-        if (khmerMonth == LUNAR_MONTHS.get("ស្រាពណ៍"))
-            return LUNAR_MONTHS.get("ភទ្របទ");
-        if (khmerMonth == LUNAR_MONTHS.get("ភទ្របទ"))
-            return LUNAR_MONTHS.get("អស្សុជ");
-        if (khmerMonth == LUNAR_MONTHS.get("អស្សុជ"))
-            return LUNAR_MONTHS.get("កក្ដិក");
-        if (khmerMonth == LUNAR_MONTHS.get("កក្ដិក"))
-            return LUNAR_MONTHS.get("មិគសិរ");
-        if (khmerMonth == LUNAR_MONTHS.get("បឋមាសាឍ"))
-            return LUNAR_MONTHS.get("ទុតិយាសាឍ");
-        if (khmerMonth == LUNAR_MONTHS.get("ទុតិយាសាឍ"))
-            return LUNAR_MONTHS.get("ស្រាពណ៍");
-        throw new KhmerMonthException("Invalid month");
     }
 
-    private static int getMaybeBEYear(LocalDateTime date) {
-        DateTimeFormatter monthFormat = DateTimeFormatter.ofPattern("M");
-        String d = monthFormat.format(date);
-        if (Integer.parseInt(d) <= (SOLAR_MONTHS.get("APR") + 1)) {
-            return Integer.parseInt(yearFormat.format(date)) + 543;
+    /**
+     * Write lunar months, Visakha Bochea days and new year date times of given gregorian years as CalendarTable
+     */
+    static void writeCalendarTable(OutputStream out, int fromGregorianYear, int toGregorianYear) throws IOException {
+        int years = toGregorianYear - fromGregorianYear + 1;
+        int[] visakhaBocheaDays = new int[years];
+        int[] newYearMinutes = new int[years];
+        for (int i = 0; i < years; i++) {
+            int year = fromGregorianYear + i;
+            try {
+                visakhaBocheaDays[i] = (int) getVisakhaBochea(year).toLocalDate().toEpochDay();
+            } catch (RuntimeException e) {
+                visakhaBocheaDays[i] = CalendarTable.NONE;
+            }
+            try {
+                newYearMinutes[i] = (int) (getKhmerNewYearDateTime(year).toEpochSecond(ZoneOffset.UTC) / 60);
+            } catch (RuntimeException e) {
+                newYearMinutes[i] = CalendarTable.NONE;
+            }
+        }
+        LunarMonthIndex index = LunarMonthIndex.covering(LocalDate.of(toGregorianYear, 12, 31).toEpochDay());
+        CalendarTable.write(out, fromGregorianYear, toGregorianYear, index.starts, index.months, index.size,
+                visakhaBocheaDays, newYearMinutes);
+    }
+
+    static int getGregorianYear(long epochDay) {
+        int year = (int) Math.floorDiv(epochDay * 400, 146097) + 1970;
+        while (getFirstDayOfGregorianYear(year) > epochDay) {
+            year--;
+        }
+        while (getFirstDayOfGregorianYear(year + 1) <= epochDay) {
+            year++;
         }
-        return Integer.parseInt(yearFormat.format(date)) + 544;
+        return year;
+    }
+
+    private static long getFirstDayOfGregorianYear(int year) {
+        long y = year - 1L;
+        return 365L * (year - 1970) + (y / 4 - 492) - (y / 100 - 19) + (y / 400 - 4);
+    }
+
+    private static DayOfWeek getDayOfWeek(long epochDay) {
+        // 1970-01-01 is a Thursday
+        return DayOfWeek.of((int) Math.floorMod(epochDay + 3, 7L) + 1);
+    }
+
+    private static KhmerLunarDate toKhmerLunarDate(DayOfWeek dayOfWeek, int day, int month, int beYear, int lunarZodiac, int lunarEra) {
+        LunarDay khmerLunarDay = getKhmerLunarDay(day);
+        return new KhmerLunarDate(dayOfWeek, khmerLunarDay.moonCount, khmerLunarDay.moonStatus, month,
+                lunarZodiac, lunarEra, beYear);
+    }
+
+    /**
+     * Walks the days of a range in order. Position in the lunar month index, Visakha Bochea day and new year day
+     * of the current gregorian year are kept, so each step is a few comparisons.
+     */
+    private static final class LunarDateCursor implements Iterator<KhmerLunarDate> {
+        private final long end;
+        private long epochDay;
+
+        private LunarMonthIndex index;
+        private int month;
+
+        private int gregorianYear;
+        private long nextYearDay = Long.MIN_VALUE; // January 1 of next gregorian year
+        private YearBoundary visakhaBochea;
+        private YearBoundary newYear;
+
+        private LunarDateCursor(long from, long to) {
+            this.epochDay = from;
+            this.end = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return epochDay < end;
+        }
+
+        @Override
+        public KhmerLunarDate next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (epochDay >= nextYearDay) {
+                enterYear(LocalDate.ofEpochDay(epochDay).getYear());
+            }
+            if (index == null) {
+                index = LunarMonthIndex.covering(epochDay);
+                month = index.indexOf(epochDay);
+            }
+            while (epochDay >= index.starts[month + 1]) {
+                month++;
+                if (month == index.size) {
+                    index = LunarMonthIndex.covering(epochDay);
+                }
+            }
+            int day = (int) (epochDay - index.starts[month]);
+            int khmerMonth = index.months[month];
+            int beYear = epochDay < visakhaBochea.firstDay ? gregorianYear + 543 : gregorianYear + 544;
+            int yearOffset = epochDay < newYear.firstDay ? 543 : 544;
+            int lunarZodiac = (gregorianYear + yearOffset + 4) % 12;
+            int lunarEra = (gregorianYear + yearOffset - 1182) % 10;
+            DayOfWeek dayOfWeek = getDayOfWeek(epochDay);
+            epochDay++;
+            return toKhmerLunarDate(dayOfWeek, day, khmerMonth, beYear, lunarZodiac, lunarEra);
+        }
+
+        private void enterYear(int year) {
+            visakhaBochea = getYearBoundary(visakhaBocheaDays, year, Chhankitek::findVisakhaBochea);
+            newYear = getYearBoundary(newYearDateTimes, year, Chhankitek::findKhmerNewYear);
+            gregorianYear = year;
+            nextYearDay = LocalDate.of(year + 1, 1, 1).toEpochDay();
+        }
+    }
+
+    private static int nextMonthOf(int khmerMonth, int beYear) {
+        return KhmerMonth.of(khmerMonth).next(getKhmerYearType(beYear)).getValue();
+    }
+
+    private static int getMaybeBEYear(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (date.getMonthValue() <= (SOLAR_MONTHS.get("APR") + 1)) {
+            return date.getYear() + 543;
+        }
+        return date.getYear() + 544;
     }
 
     public static class LunarDate {
@@ -406,6 +1109,30 @@ public class Chhankitek {
         }
     }
 
+    private static class YearBoundary {
+        private final int gregorianYear;
+        private final LocalDateTime dateTime;
+        private final long firstDay; // first epoch day whose midnight is on the new side of dateTime
+        private final long epochDay;
+        private final long nanoOfDay;
+
+        private YearBoundary(int gregorianYear, LocalDateTime dateTime, long firstDay) {
+            this.gregorianYear = gregorianYear;
+            this.dateTime = dateTime;
+            this.firstDay = firstDay;
+            this.epochDay = dateTime.toLocalDate().toEpochDay();
+            this.nanoOfDay = dateTime.toLocalTime().toNanoOfDay();
+        }
+
+        /**
+         * @return negative, zero or positive as dateTime is before, at or after the given moment
+         */
+        private int compareTo(long epochDay, long nanoOfDay) {
+            int result = Long.compare(this.epochDay, epochDay);
+            return result != 0 ? result : Long.compare(this.nanoOfDay, nanoOfDay);
+        }
+    }
+
     public static class LunarDay {
         private final int moonCount;
         private final int moonStatus;
@@ -0,0 +1,43 @@
+package io.github.metheax;
+
+import io.github.metheax.metrics.ChhankitekListener;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the ChhankitekListener of the library. The first one found by ServiceLoader is used until setListener is
+ * called; with none, every event is skipped after one field read and no time is measured.
+ */
+public final class ChhankitekMetrics {
+
+    static volatile ChhankitekListener listener = load();
+
+    private ChhankitekMetrics() {
+    }
+
+    /**
+     * @param listener receives every event from now on, null for none
+     */
+    public static void setListener(ChhankitekListener listener) {
+        ChhankitekMetrics.listener = listener;
+    }
+
+    /**
+     * @return current listener, null when there is none
+     */
+    public static ChhankitekListener getListener() {
+        return listener;
+    }
+
+    private static ChhankitekListener load() {
+        try {
+            Iterator<ChhankitekListener> listeners = ServiceLoader.load(ChhankitekListener.class).iterator();
+            return listeners.hasNext() ? listeners.next() : null;
+        } catch (ServiceConfigurationError e) {
+            // a broken metrics setup must not stop conversions
+            return null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.metheax;
+
+import io.github.metheax.exception.KhmerLunarDateException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalQuery;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Next Khmer lunar events as TemporalAdjuster and TemporalQuery. Each one jumps to the answer from the lunar month
+ * index or the cached ថ្ងៃវិសាខបូជា and ថ្ងៃចូលឆ្នាំ of Chhankitek instead of converting one day at a time.
+ * <p>
+ * The event is the next one strictly after the given day. As an adjuster the day moves there and the time of day is
+ * kept, as a query the LocalDate of the event is returned.
+ * <pre>
+ * LocalDate fullMoon = LocalDate.now().with(KhmerAdjusters.nextFullMoon());
+ * LocalDate newYear = ZonedDateTime.now().query(KhmerAdjusters.nextKhmerNewYear());
+ * </pre>
+ */
+public final class KhmerAdjusters {
+
+    private static final NextDay NEXT_FULL_MOON = new NextDay(KhmerAdjusters::getNextFullMoonDay);
+    private static final NextDay NEXT_SILA_DAY = new NextDay(KhmerAdjusters::getNextSilaDay);
+    private static final NextDay NEXT_VISAKHA_BOCHEA = new NextDay(KhmerAdjusters::getNextVisakhaBocheaDay);
+    private static final NextDay NEXT_KHMER_NEW_YEAR = new NextDay(KhmerAdjusters::getNextKhmerNewYearDay);
+    private static final TemporalQuery<LocalDateTime> NEXT_KHMER_NEW_YEAR_DATE_TIME = KhmerAdjusters::getNextKhmerNewYearDateTime;
+
+    private KhmerAdjusters() {
+    }
+
+    /**
+     * ១៥ កើត
+     */
+    public static NextDay nextFullMoon() {
+        return NEXT_FULL_MOON;
+    }
+
+    /**
+     * ថ្ងៃសីល: ៨ កើត, ១៥ កើត, ៨ រោច and the last day of the month, same days as Chhankitek.silaDays
+     */
+    public static NextDay nextSilaDay() {
+        return NEXT_SILA_DAY;
+    }
+
+    /**
+     * ថ្ងៃវិសាខបូជា, ១៥ កើត ខែពិសាខ
+     */
+    public static NextDay nextVisakhaBochea() {
+        return NEXT_VISAKHA_BOCHEA;
+    }
+
+    /**
+     * ថ្ងៃមហាសង្ក្រាន្ត, the first day of ចូលឆ្នាំ
+     */
+    public static NextDay nextKhmerNewYear() {
+        return NEXT_KHMER_NEW_YEAR;
+    }
+
+    /**
+     * ថ្ងៃ និង ម៉ោងទេវតាចុះ strictly after the given date and time, midnight when there is no time of day
+     */
+    public static TemporalQuery<LocalDateTime> nextKhmerNewYearDateTime() {
+        return NEXT_KHMER_NEW_YEAR_DATE_TIME;
+    }
+
+    private static long getNextFullMoonDay(long epochDay) {
+        Chhankitek.LunarMonthIndex index = covering(epochDay);
+        int i = index.indexOf(epochDay);
+        long fullMoon = index.starts[i] + 14L;
+        return fullMoon > epochDay ? fullMoon : index.starts[i + 1] + 14L;
+    }
+
+    private static long getNextSilaDay(long epochDay) {
+        Chhankitek.LunarMonthIndex index = covering(epochDay);
+        int i = index.indexOf(epochDay);
+        for (int day : Chhankitek.SILA_DAYS) {
+            if (index.starts[i] + day > epochDay) {
+                return index.starts[i] + (long) day;
+            }
+        }
+        long lastDay = index.starts[i + 1] - 1L;
+        return lastDay > epochDay ? lastDay : index.starts[i + 1] + (long) Chhankitek.SILA_DAYS[0];
+    }
+
+    private static long getNextVisakhaBocheaDay(long epochDay) {
+        int gregorianYear = Chhankitek.getGregorianYear(epochDay);
+        long visakhaBocheaDay = Chhankitek.getVisakhaBocheaDay(gregorianYear);
+        return visakhaBocheaDay > epochDay ? visakhaBocheaDay : Chhankitek.getVisakhaBocheaDay(gregorianYear + 1);
+    }
+
+    private static long getNextKhmerNewYearDay(long epochDay) {
+        int gregorianYear = Chhankitek.getGregorianYear(epochDay);
+        long newYearDay = Chhankitek.getMahaSangkranDay(Chhankitek.getKhmerNewYearDateTime(gregorianYear)).toEpochDay();
+        return newYearDay > epochDay ? newYearDay
+                : Chhankitek.getMahaSangkranDay(Chhankitek.getKhmerNewYearDateTime(gregorianYear + 1)).toEpochDay();
+    }
+
+    private static LocalDateTime getNextKhmerNewYearDateTime(TemporalAccessor temporal) {
+        if (!temporal.isSupported(ChronoField.EPOCH_DAY)) {
+            return null;
+        }
+        LocalDate date = LocalDate.ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+        LocalDateTime dateTime = temporal.isSupported(ChronoField.NANO_OF_DAY)
+                ? date.atTime(LocalTime.ofNanoOfDay(temporal.getLong(ChronoField.NANO_OF_DAY))) : date.atStartOfDay();
+        LocalDateTime newYearDateTime = Chhankitek.getKhmerNewYearDateTime(date.getYear());
+        return newYearDateTime.isAfter(dateTime) ? newYearDateTime : Chhankitek.getKhmerNewYearDateTime(date.getYear() + 1);
+    }
+
+    private static Chhankitek.LunarMonthIndex covering(long epochDay) {
+        if (epochDay < Chhankitek.LunarMonthIndex.EPOCH_DAY) {
+            throw new KhmerLunarDateException("Lunar months are calculated from 1900");
+        }
+        return Chhankitek.LunarMonthIndex.covering(epochDay);
+    }
+
+    /**
+     * Moves to, or answers, the day of the next event after a day
+     */
+    public static final class NextDay implements TemporalAdjuster, TemporalQuery<LocalDate> {
+        private final LongUnaryOperator next;
+
+        private NextDay(LongUnaryOperator next) {
+            this.next = next;
+        }
+
+        @Override
+        public Temporal adjustInto(Temporal temporal) {
+            long epochDay = temporal.getLong(ChronoField.EPOCH_DAY);
+            return temporal.plus(next.applyAsLong(epochDay) - epochDay, ChronoUnit.DAYS);
+        }
+
+        /**
+         * @return day of the next event, null when the temporal has no date
+         */
+        @Override
+        public LocalDate queryFrom(TemporalAccessor temporal) {
+            if (!temporal.isSupported(ChronoField.EPOCH_DAY)) {
+                return null;
+            }
+            return LocalDate.ofEpochDay(next.applyAsLong(temporal.getLong(ChronoField.EPOCH_DAY)));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.metheax;
+
+import java.time.DateTimeException;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.Era;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.ValueRange;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.temporal.ChronoField.*;
+
+/**
+ * Khmer Chhankitek calendar as a java.time Chronology, see KhmerChhankitekDate for its years, months and days.
+ * Supported from BE 2444 (the first BE year after January 1, 1900, where lunar months are calculated from)
+ * to BE 7346 (the last year type Chhankitek can calculate).
+ */
+public final class KhmerChhankitekChronology extends AbstractChronology {
+
+    public static final KhmerChhankitekChronology INSTANCE = new KhmerChhankitekChronology();
+
+    static final int MIN_YEAR = 2444;
+    static final int MAX_YEAR = 7346;
+    private static final ValueRange YEAR_RANGE = ValueRange.of(MIN_YEAR, MAX_YEAR);
+    private static final ValueRange MONTH_OF_YEAR_RANGE = ValueRange.of(1, 13, 14);
+    private static final ValueRange DAY_OF_MONTH_RANGE = ValueRange.of(1, 15, 30);
+    private static final ValueRange DAY_OF_YEAR_RANGE = ValueRange.of(1, 354, 384);
+    private static final ValueRange ALIGNED_WEEK_OF_MONTH_RANGE = ValueRange.of(1, 3, 5);
+    private static final ValueRange ALIGNED_WEEK_OF_YEAR_RANGE = ValueRange.of(1, 51, 55);
+    private static final ValueRange PROLEPTIC_MONTH_RANGE = ValueRange.of(0, (MAX_YEAR - MIN_YEAR + 1) * 13L - 1,
+            (MAX_YEAR - MIN_YEAR + 1) * 14L - 1);
+    private static final ValueRange ERA_RANGE = ValueRange.of(1, 1);
+
+    /**
+     * Used by ServiceLoader only, use INSTANCE
+     */
+    @Deprecated
+    public KhmerChhankitekChronology() {
+    }
+
+    @Override
+    public String getId() {
+        return "Khmer-Chhankitek";
+    }
+
+    /**
+     * @return chhankitek, not a Unicode calendar type, so era and month text fall back to numbers when formatting
+     */
+    @Override
+    public String getCalendarType() {
+        return "chhankitek";
+    }
+
+    @Override
+    public KhmerChhankitekDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+        return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+    }
+
+    @Override
+    public KhmerChhankitekDate date(int prolepticYear, int month, int dayOfMonth) {
+        return KhmerChhankitekDate.of(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override
+    public KhmerChhankitekDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+        return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+    }
+
+    @Override
+    public KhmerChhankitekDate dateYearDay(int prolepticYear, int dayOfYear) {
+        return KhmerChhankitekDate.ofYearDay(prolepticYear, dayOfYear);
+    }
+
+    @Override
+    public KhmerChhankitekDate dateEpochDay(long epochDay) {
+        return KhmerChhankitekDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public KhmerChhankitekDate dateNow() {
+        return KhmerChhankitekDate.now();
+    }
+
+    @Override
+    public KhmerChhankitekDate date(TemporalAccessor temporal) {
+        if (temporal instanceof KhmerChhankitekDate) {
+            return (KhmerChhankitekDate) temporal;
+        }
+        return KhmerChhankitekDate.ofEpochDay(temporal.getLong(EPOCH_DAY));
+    }
+
+    /**
+     * A year with អធិកមាស (14 months) or ចន្ទ្រាធិមាស (355 days) is longer than a regular year of 354 days
+     */
+    @Override
+    public boolean isLeapYear(long prolepticYear) {
+        return KhmerChhankitekDate.lengthOfYear(YEAR_RANGE.checkValidIntValue(prolepticYear, YEAR)) > 354;
+    }
+
+    @Override
+    public int prolepticYear(Era era, int yearOfEra) {
+        if (!(era instanceof KhmerChhankitekEra)) {
+            throw new ClassCastException("Era must be KhmerChhankitekEra");
+        }
+        return yearOfEra;
+    }
+
+    @Override
+    public KhmerChhankitekEra eraOf(int eraValue) {
+        return KhmerChhankitekEra.of(eraValue);
+    }
+
+    @Override
+    public List<Era> eras() {
+        return Arrays.asList(KhmerChhankitekEra.values());
+    }
+
+    @Override
+    public ValueRange range(ChronoField field) {
+        switch (field) {
+            case DAY_OF_MONTH:
+                return DAY_OF_MONTH_RANGE;
+            case DAY_OF_YEAR:
+                return DAY_OF_YEAR_RANGE;
+            case ALIGNED_WEEK_OF_MONTH:
+                return ALIGNED_WEEK_OF_MONTH_RANGE;
+            case ALIGNED_WEEK_OF_YEAR:
+                return ALIGNED_WEEK_OF_YEAR_RANGE;
+            case MONTH_OF_YEAR:
+                return MONTH_OF_YEAR_RANGE;
+            case PROLEPTIC_MONTH:
+                return PROLEPTIC_MONTH_RANGE;
+            case YEAR_OF_ERA:
+            case YEAR:
+                return YEAR_RANGE;
+            case ERA:
+                return ERA_RANGE;
+            default:
+                return field.range();
+        }
+    }
+
+    /**
+     * Proleptic month and year, month and day of month are resolved here, their first month does not start on day 1
+     * and years do not have 12 months. Other fields are resolved by AbstractChronology.
+     */
+    @Override
+    public KhmerChhankitekDate resolveDate(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+        if (fieldValues.containsKey(EPOCH_DAY)) {
+            return dateEpochDay(EPOCH_DAY.checkValidValue(fieldValues.remove(EPOCH_DAY)));
+        }
+        Long prolepticMonth = fieldValues.remove(PROLEPTIC_MONTH);
+        if (prolepticMonth != null) {
+            if (resolverStyle != ResolverStyle.LENIENT) {
+                PROLEPTIC_MONTH_RANGE.checkValidValue(prolepticMonth, PROLEPTIC_MONTH);
+            }
+            KhmerChhankitekDate month = KhmerChhankitekDate.ofProlepticMonth(prolepticMonth, 1);
+            addFieldValue(fieldValues, MONTH_OF_YEAR, month.getMonthValue());
+            addFieldValue(fieldValues, YEAR, month.getYear());
+        }
+        Long yearOfEra = fieldValues.get(YEAR_OF_ERA);
+        if (yearOfEra != null && !fieldValues.containsKey(YEAR)) {
+            Long era = fieldValues.remove(ERA);
+            if (era != null) {
+                eraOf(ERA_RANGE.checkValidIntValue(era, ERA));
+            }
+            fieldValues.put(YEAR, fieldValues.remove(YEAR_OF_ERA));
+        }
+        if (fieldValues.containsKey(YEAR) && fieldValues.containsKey(MONTH_OF_YEAR) && fieldValues.containsKey(DAY_OF_MONTH)) {
+            int year = YEAR_RANGE.checkValidIntValue(fieldValues.remove(YEAR), YEAR);
+            long month = fieldValues.remove(MONTH_OF_YEAR);
+            long dayOfMonth = fieldValues.remove(DAY_OF_MONTH);
+            if (resolverStyle == ResolverStyle.LENIENT) {
+                KhmerChhankitekDate firstMonth = KhmerChhankitekDate.ofProlepticMonth(
+                        date(year, 1, 16).getProlepticMonth() + month - 1, 1);
+                return firstMonth.plusDays(dayOfMonth - firstMonth.getDayOfMonth());
+            }
+            int validMonth = MONTH_OF_YEAR_RANGE.checkValidIntValue(month, MONTH_OF_YEAR);
+            int validDayOfMonth = DAY_OF_MONTH_RANGE.checkValidIntValue(dayOfMonth, DAY_OF_MONTH);
+            if (resolverStyle == ResolverStyle.SMART) {
+                return KhmerChhankitekDate.ofNearestValid(year, validMonth, validDayOfMonth);
+            }
+            return date(year, validMonth, validDayOfMonth);
+        }
+        return (KhmerChhankitekDate) super.resolveDate(fieldValues, resolverStyle);
+    }
+
+    private static void addFieldValue(Map<TemporalField, Long> fieldValues, ChronoField field, long value) {
+        Long old = fieldValues.put(field, value);
+        if (old != null && old != value) {
+            throw new DateTimeException("Conflict found: " + field + " " + old + " differs from " + field + " " + value);
+        }
+    }
+}
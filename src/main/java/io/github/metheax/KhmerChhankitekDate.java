@@ -0,0 +1,585 @@
+package io.github.metheax;
+
+import io.github.metheax.domain.KhmerLunarDate;
+import io.github.metheax.domain.KhmerMonth;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+import static io.github.metheax.KhmerChhankitekChronology.MAX_YEAR;
+import static io.github.metheax.KhmerChhankitekChronology.MIN_YEAR;
+
+/**
+ * Date in the Khmer Chhankitek calendar.
+ * <p>
+ * Year is ពុទ្ធសករាជ, it starts on ១ រោច ខែពិសាខ, the day after ថ្ងៃវិសាខបូជា, as in Chhankitek.toKhmerLunarDateFormat.
+ * Months are the lunar months of the year in order, so ពិសាខ is split in two: its រោច days are month 1 and its
+ * កើត days the last month, 13 or 14 with អធិកមាស. Day of month is the lunar day, ១កើត is 1, ១រោច is 16 and the last
+ * day is 29 or 30, so month 1 has days 16 - 30 and the last month days 1 - 15.
+ * <p>
+ * Every date keeps its position in Chhankitek's lunar month index. Adding days, months or years moves along the
+ * index, it never goes through a gregorian date.
+ */
+public final class KhmerChhankitekDate implements ChronoLocalDate {
+
+    private static final int FIRST_DAY_OF_FIRST_MONTH = 16; // ១ រោច
+    private static final int LAST_DAY_OF_LAST_MONTH = 15; // ១៥ កើត, ថ្ងៃវិសាខបូជា
+
+    private final long epochDay;
+    private final int year;
+    private final int month;
+    private final int day;
+    private final int entry; // position of the lunar month in the lunar month index
+    private final int firstEntry; // position of ពិសាខ starting the year
+
+    private KhmerChhankitekDate(long epochDay, int year, int month, int day, int entry, int firstEntry) {
+        this.epochDay = epochDay;
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.entry = entry;
+        this.firstEntry = firstEntry;
+    }
+
+    public static KhmerChhankitekDate now() {
+        return from(LocalDate.now());
+    }
+
+    /**
+     * @param year BE year
+     * @param month 1 - 13, or 14 in a year with អធិកមាស
+     * @param dayOfMonth lunar day, 16 - 30 in month 1 and 1 - 15 in the last month
+     * @return KhmerChhankitekDate
+     */
+    public static KhmerChhankitekDate of(int year, int month, int dayOfMonth) {
+        int firstEntry = getFirstEntry(year);
+        Chhankitek.LunarMonthIndex index = coveringYear(firstEntry);
+        int months = getLastEntry(index, firstEntry) - firstEntry + 1;
+        if (month < 1 || month > months) {
+            throw new DateTimeException("Invalid month " + month + ", BE year " + year + " has " + months + " months");
+        }
+        int entry = firstEntry + month - 1;
+        if (!rangeOfDays(index, entry, month, months).isValidValue(dayOfMonth)) {
+            throw new DateTimeException("Invalid day of month " + dayOfMonth + " in month " + month + " of BE year " + year);
+        }
+        return new KhmerChhankitekDate(index.starts[entry] + dayOfMonth - 1L, year, month, dayOfMonth, entry, firstEntry);
+    }
+
+    /**
+     * @param year BE year
+     * @param dayOfYear 1 - 354, 355 or 384
+     * @return KhmerChhankitekDate
+     */
+    public static KhmerChhankitekDate ofYearDay(int year, int dayOfYear) {
+        if (dayOfYear < 1 || dayOfYear > lengthOfYear(year)) {
+            throw new DateTimeException("Invalid day of year " + dayOfYear + " in BE year " + year);
+        }
+        return ofEpochDay(getFirstDay(getFirstEntry(year)) + dayOfYear - 1);
+    }
+
+    public static KhmerChhankitekDate ofEpochDay(long epochDay) {
+        if (epochDay < Chhankitek.LunarMonthIndex.EPOCH_DAY) {
+            throw new DateTimeException("Khmer Chhankitek dates start from BE " + MIN_YEAR);
+        }
+        int gregorianYear = Chhankitek.getGregorianYear(epochDay);
+        int year = epochDay > Chhankitek.getVisakhaBocheaDay(gregorianYear) ? gregorianYear + 544 : gregorianYear + 543;
+        int firstEntry = getFirstEntry(year);
+        Chhankitek.LunarMonthIndex index = Chhankitek.LunarMonthIndex.covering(epochDay);
+        int entry = index.indexOf(epochDay);
+        return new KhmerChhankitekDate(epochDay, year, entry - firstEntry + 1, (int) (epochDay - index.starts[entry]) + 1,
+                entry, firstEntry);
+    }
+
+    public static KhmerChhankitekDate from(TemporalAccessor temporal) {
+        return KhmerChhankitekChronology.INSTANCE.date(temporal);
+    }
+
+    /**
+     * Same year and month, day of month moved into the month when it is outside
+     */
+    static KhmerChhankitekDate ofNearestValid(int year, int month, int dayOfMonth) {
+        int firstEntry = getFirstEntry(year);
+        Chhankitek.LunarMonthIndex index = coveringYear(firstEntry);
+        int months = getLastEntry(index, firstEntry) - firstEntry + 1;
+        if (month < 1 || month > months) {
+            throw new DateTimeException("Invalid month " + month + ", BE year " + year + " has " + months + " months");
+        }
+        ValueRange days = rangeOfDays(index, firstEntry + month - 1, month, months);
+        return of(year, month, (int) Math.max(days.getMinimum(), Math.min(days.getMaximum(), dayOfMonth)));
+    }
+
+    /**
+     * Month counted from month 1 of BE 2444, day of month moved into the month when it is outside
+     */
+    static KhmerChhankitekDate ofProlepticMonth(long prolepticMonth, int dayOfMonth) {
+        if (prolepticMonth < 0 || prolepticMonth >= (MAX_YEAR - MIN_YEAR + 1) * 14L) {
+            throw new DateTimeException("Proleptic month " + prolepticMonth + " is out of range");
+        }
+        // 254 months in 19 years: 235 lunar months and one split ពិសាខ a year
+        long estimate = MIN_YEAR + Math.floorDiv(prolepticMonth * 19, 254);
+        int year = (int) Math.max(MIN_YEAR, Math.min(MAX_YEAR, estimate));
+        while (year > MIN_YEAR && getFirstProlepticMonth(year) > prolepticMonth) {
+            year--;
+        }
+        while (year < MAX_YEAR && getFirstProlepticMonth(year + 1) <= prolepticMonth) {
+            year++;
+        }
+        return ofNearestValid(year, (int) (prolepticMonth - getFirstProlepticMonth(year) + 1), dayOfMonth);
+    }
+
+    /**
+     * @return number of days of BE year
+     */
+    static int lengthOfYear(int year) {
+        int firstEntry = getFirstEntry(year);
+        Chhankitek.LunarMonthIndex index = coveringYear(firstEntry);
+        return index.starts[getLastEntry(index, firstEntry)] - index.starts[firstEntry];
+    }
+
+    @Override
+    public KhmerChhankitekChronology getChronology() {
+        return KhmerChhankitekChronology.INSTANCE;
+    }
+
+    @Override
+    public KhmerChhankitekEra getEra() {
+        return KhmerChhankitekEra.BE;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonthValue() {
+        return month;
+    }
+
+    public int getDayOfMonth() {
+        return day;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return DayOfWeek.of(get(ChronoField.DAY_OF_WEEK));
+    }
+
+    /**
+     * @return lunar month, ពិសាខ for both the first and the last month
+     */
+    public KhmerMonth getKhmerMonth() {
+        return KhmerMonth.of(Chhankitek.LunarMonthIndex.get().months[entry]);
+    }
+
+    /**
+     * @return same day as Chhankitek.toKhmerLunarDateFormat at midnight
+     */
+    public KhmerLunarDate toKhmerLunarDate() {
+        return Chhankitek.toKhmerLunarDateFormat(LocalDate.ofEpochDay(epochDay));
+    }
+
+    @Override
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    @Override
+    public int lengthOfMonth() {
+        ValueRange days = range(ChronoField.DAY_OF_MONTH);
+        return (int) (days.getMaximum() - days.getMinimum() + 1);
+    }
+
+    @Override
+    public int lengthOfYear() {
+        Chhankitek.LunarMonthIndex index = coveringYear(firstEntry);
+        return index.starts[getLastEntry(index, firstEntry)] - index.starts[firstEntry];
+    }
+
+    @Override
+    public boolean isLeapYear() {
+        return lengthOfYear() > 354;
+    }
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH:
+                    return rangeOfDays();
+                case DAY_OF_YEAR:
+                    return ValueRange.of(1, lengthOfYear());
+                case ALIGNED_WEEK_OF_MONTH:
+                    ValueRange days = rangeOfDays();
+                    return ValueRange.of((days.getMinimum() - 1) / 7 + 1, (days.getMaximum() - 1) / 7 + 1);
+                case ALIGNED_WEEK_OF_YEAR:
+                    return ValueRange.of(1, (lengthOfYear() - 1) / 7 + 1);
+                case MONTH_OF_YEAR:
+                    return ValueRange.of(1, getNumberOfMonths());
+                default:
+                    return getChronology().range((ChronoField) field);
+            }
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case DAY_OF_WEEK:
+                    return Math.floorMod(epochDay + 3, 7L) + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                    return (day - 1) % 7 + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return (getDayOfYear() - 1) % 7 + 1;
+                case DAY_OF_MONTH:
+                    return day;
+                case DAY_OF_YEAR:
+                    return getDayOfYear();
+                case EPOCH_DAY:
+                    return epochDay;
+                case ALIGNED_WEEK_OF_MONTH:
+                    return (day - 1) / 7 + 1;
+                case ALIGNED_WEEK_OF_YEAR:
+                    return (getDayOfYear() - 1) / 7 + 1;
+                case MONTH_OF_YEAR:
+                    return month;
+                case PROLEPTIC_MONTH:
+                    return getProlepticMonth();
+                case YEAR_OF_ERA:
+                case YEAR:
+                    return year;
+                case ERA:
+                    return 1;
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+        }
+        return field.getFrom(this);
+    }
+
+    @Override
+    public KhmerChhankitekDate with(TemporalAdjuster adjuster) {
+        return KhmerChhankitekChronology.INSTANCE.date(adjuster.adjustInto(this));
+    }
+
+    @Override
+    public KhmerChhankitekDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            ChronoField chronoField = (ChronoField) field;
+            getChronology().range(chronoField).checkValidValue(newValue, chronoField);
+            switch (chronoField) {
+                case DAY_OF_WEEK:
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return plusDays(newValue - getLong(chronoField));
+                case DAY_OF_MONTH:
+                    return of(year, month, (int) newValue);
+                case DAY_OF_YEAR:
+                    return ofYearDay(year, (int) newValue);
+                case EPOCH_DAY:
+                    return ofEpochDay(newValue);
+                case ALIGNED_WEEK_OF_MONTH:
+                case ALIGNED_WEEK_OF_YEAR:
+                    return plusDays(Math.multiplyExact(newValue - getLong(chronoField), 7));
+                case MONTH_OF_YEAR:
+                    return ofNearestValid(year, (int) newValue, day);
+                case PROLEPTIC_MONTH:
+                    return plusMonths(newValue - getProlepticMonth());
+                case YEAR_OF_ERA:
+                case YEAR:
+                    return plusYears(newValue - year);
+                case ERA:
+                    return this;
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+        }
+        return KhmerChhankitekChronology.INSTANCE.date(field.adjustInto(this, newValue));
+    }
+
+    @Override
+    public KhmerChhankitekDate plus(TemporalAmount amount) {
+        return KhmerChhankitekChronology.INSTANCE.date(amount.addTo(this));
+    }
+
+    @Override
+    public KhmerChhankitekDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return plusDays(amountToAdd);
+                case WEEKS:
+                    return plusDays(Math.multiplyExact(amountToAdd, 7));
+                case MONTHS:
+                    return plusMonths(amountToAdd);
+                case YEARS:
+                    return plusYears(amountToAdd);
+                case DECADES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 10));
+                case CENTURIES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 100));
+                case MILLENNIA:
+                    return plusYears(Math.multiplyExact(amountToAdd, 1000));
+                case ERAS:
+                    return with(ChronoField.ERA, Math.addExact(getLong(ChronoField.ERA), amountToAdd));
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        return KhmerChhankitekChronology.INSTANCE.date(unit.addTo(this, amountToAdd));
+    }
+
+    @Override
+    public KhmerChhankitekDate minus(TemporalAmount amount) {
+        return KhmerChhankitekChronology.INSTANCE.date(amount.subtractFrom(this));
+    }
+
+    @Override
+    public KhmerChhankitekDate minus(long amountToSubtract, TemporalUnit unit) {
+        return amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract, unit);
+    }
+
+    public KhmerChhankitekDate plusDays(long days) {
+        if (days == 0) {
+            return this;
+        }
+        long newEpochDay = Math.addExact(epochDay, days);
+        Chhankitek.LunarMonthIndex index = Chhankitek.LunarMonthIndex.get();
+        long monthStart = index.starts[entry];
+        if (newEpochDay >= monthStart && newEpochDay < index.starts[entry + 1]) {
+            // same lunar month, the year changes only inside ពិសាខ
+            int newDay = (int) (newEpochDay - monthStart) + 1;
+            if (month != 1 && month != getNumberOfMonths() || (newDay >= FIRST_DAY_OF_FIRST_MONTH) == (day >= FIRST_DAY_OF_FIRST_MONTH)) {
+                return new KhmerChhankitekDate(newEpochDay, year, month, newDay, entry, firstEntry);
+            }
+        }
+        return ofEpochDay(newEpochDay);
+    }
+
+    /**
+     * Moves by months of the calendar, the day of month is moved into the new month when it is outside
+     */
+    public KhmerChhankitekDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        return ofProlepticMonth(Math.addExact(getProlepticMonth(), months), day);
+    }
+
+    /**
+     * Same lunar month and day in another year. បឋមាសាឍ and ទុតិយាសាឍ become អាសាឍ in a year without អធិកមាស,
+     * អាសាឍ becomes ទុតិយាសាឍ in a year with it, and the day is moved into the month when it is outside.
+     */
+    public KhmerChhankitekDate plusYears(long years) {
+        if (years == 0) {
+            return this;
+        }
+        long newYear = Math.addExact(year, years);
+        if (newYear < MIN_YEAR || newYear > MAX_YEAR) {
+            throw new DateTimeException("BE year " + newYear + " is out of range " + MIN_YEAR + " - " + MAX_YEAR);
+        }
+        int newFirstEntry = getFirstEntry((int) newYear);
+        Chhankitek.LunarMonthIndex index = coveringYear(newFirstEntry);
+        int newLastEntry = getLastEntry(index, newFirstEntry);
+        int newMonth;
+        if (month == 1) {
+            newMonth = 1;
+        } else if (month == getNumberOfMonths()) {
+            newMonth = newLastEntry - newFirstEntry + 1;
+        } else {
+            int lunarMonth = index.months[entry];
+            int newEntry = findMonth(index, newFirstEntry, newLastEntry, lunarMonth);
+            if (newEntry < 0) {
+                newEntry = findMonth(index, newFirstEntry, newLastEntry, lunarMonth == KhmerMonth.ASATH.getValue()
+                        ? KhmerMonth.TUTIYASATH.getValue() : KhmerMonth.ASATH.getValue());
+            }
+            newMonth = newEntry - newFirstEntry + 1;
+        }
+        return ofNearestValid((int) newYear, newMonth, day);
+    }
+
+    public KhmerChhankitekDate minusDays(long days) {
+        return days == Long.MIN_VALUE ? plusDays(Long.MAX_VALUE).plusDays(1) : plusDays(-days);
+    }
+
+    public KhmerChhankitekDate minusMonths(long months) {
+        return months == Long.MIN_VALUE ? plusMonths(Long.MAX_VALUE).plusMonths(1) : plusMonths(-months);
+    }
+
+    public KhmerChhankitekDate minusYears(long years) {
+        return years == Long.MIN_VALUE ? plusYears(Long.MAX_VALUE).plusYears(1) : plusYears(-years);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        KhmerChhankitekDate end = KhmerChhankitekChronology.INSTANCE.date(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return end.epochDay - epochDay;
+                case WEEKS:
+                    return (end.epochDay - epochDay) / 7;
+                case MONTHS:
+                    return monthsUntil(end);
+                case YEARS:
+                    return yearsUntil(end);
+                case DECADES:
+                    return yearsUntil(end) / 10;
+                case CENTURIES:
+                    return yearsUntil(end) / 100;
+                case MILLENNIA:
+                    return yearsUntil(end) / 1000;
+                case ERAS:
+                    return 0;
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+        KhmerChhankitekDate end = KhmerChhankitekChronology.INSTANCE.date(endDateExclusive);
+        long years = yearsUntil(end);
+        KhmerChhankitekDate afterYears = plusYears(years);
+        long months = afterYears.monthsUntil(end);
+        long days = afterYears.plusMonths(months).until(end, ChronoUnit.DAYS);
+        return getChronology().period(Math.toIntExact(years), Math.toIntExact(months), Math.toIntExact(days));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoLocalDateTime<KhmerChhankitekDate> atTime(LocalTime localTime) {
+        return (ChronoLocalDateTime<KhmerChhankitekDate>) ChronoLocalDate.super.atTime(localTime);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return epochDay == ((KhmerChhankitekDate) o).epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return getChronology().getId().hashCode() ^ Long.hashCode(epochDay);
+    }
+
+    @Override
+    public String toString() {
+        return getChronology().getId() + " " + getEra() + " " + year + (month < 10 ? "-0" : "-") + month
+                + (day < 10 ? "-0" : "-") + day;
+    }
+
+    long getProlepticMonth() {
+        return getFirstProlepticMonth(year) + month - 1;
+    }
+
+    private int getDayOfYear() {
+        return (int) (epochDay - getFirstDay(firstEntry)) + 1;
+    }
+
+    private int getNumberOfMonths() {
+        return getLastEntry(coveringYear(firstEntry), firstEntry) - firstEntry + 1;
+    }
+
+    private ValueRange rangeOfDays() {
+        return rangeOfDays(coveringYear(firstEntry), entry, month, getNumberOfMonths());
+    }
+
+    private long monthsUntil(KhmerChhankitekDate end) {
+        long months = end.getProlepticMonth() - getProlepticMonth();
+        if (months > 0 && end.day < day) {
+            months--;
+        } else if (months < 0 && end.day > day) {
+            months++;
+        }
+        return months;
+    }
+
+    private long yearsUntil(KhmerChhankitekDate end) {
+        long years = end.year - year;
+        if (years > 0 && plusYears(years).isAfter(end)) {
+            years--;
+        } else if (years < 0 && plusYears(years).isBefore(end)) {
+            years++;
+        }
+        return years;
+    }
+
+    /**
+     * @return position of ពិសាខ holding ថ្ងៃវិសាខបូជា that ends the year before
+     */
+    private static int getFirstEntry(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new DateTimeException("BE year " + year + " is out of range " + MIN_YEAR + " - " + MAX_YEAR);
+        }
+        long visakhaBocheaDay = Chhankitek.getVisakhaBocheaDay(year - 544);
+        return Chhankitek.LunarMonthIndex.covering(visakhaBocheaDay).indexOf(visakhaBocheaDay);
+    }
+
+    private static long getFirstProlepticMonth(int year) {
+        // every year before has one more month than its lunar months, the split ពិសាខ
+        return getFirstEntry(year) - getFirstEntry(MIN_YEAR) + (year - MIN_YEAR);
+    }
+
+    private static long getFirstDay(int firstEntry) {
+        return Chhankitek.LunarMonthIndex.get().starts[firstEntry] + FIRST_DAY_OF_FIRST_MONTH - 1L;
+    }
+
+    /**
+     * @return index covering the year starting at firstEntry and the next ពិសាខ
+     */
+    private static Chhankitek.LunarMonthIndex coveringYear(int firstEntry) {
+        // a year is at most 14 months, so 400 days after its first ពិសាខ starts is past the next one
+        return Chhankitek.LunarMonthIndex.covering(Chhankitek.LunarMonthIndex.get().starts[firstEntry] + 400L);
+    }
+
+    /**
+     * @return position of the next ពិសាខ, holding the last month of the year
+     */
+    private static int getLastEntry(Chhankitek.LunarMonthIndex index, int firstEntry) {
+        int lastEntry = firstEntry + 1;
+        while (index.months[lastEntry] != KhmerMonth.PISAKH.getValue()) {
+            lastEntry++;
+        }
+        return lastEntry;
+    }
+
+    private static int findMonth(Chhankitek.LunarMonthIndex index, int firstEntry, int lastEntry, int lunarMonth) {
+        for (int i = firstEntry + 1; i < lastEntry; i++) {
+            if (index.months[i] == lunarMonth) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static ValueRange rangeOfDays(Chhankitek.LunarMonthIndex index, int entry, int month, int months) {
+        int min = month == 1 ? FIRST_DAY_OF_FIRST_MONTH : 1;
+        int max = month == months ? LAST_DAY_OF_LAST_MONTH : index.starts[entry + 1] - index.starts[entry];
+        return ValueRange.of(min, max);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.metheax;
+
+import java.time.DateTimeException;
+import java.time.chrono.Era;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * Era of KhmerChhankitekChronology, the only one is ពុទ្ធសករាជ
+ */
+public enum KhmerChhankitekEra implements Era {
+    BE;
+
+    /**
+     * @param value 1
+     * @return KhmerChhankitekEra
+     */
+    public static KhmerChhankitekEra of(int value) {
+        if (value != 1) {
+            throw new DateTimeException("Invalid era: " + value);
+        }
+        return BE;
+    }
+
+    @Override
+    public int getValue() {
+        return 1;
+    }
+
+    @Override
+    public String getDisplayName(TextStyle style, Locale locale) {
+        return style.asNormal() == TextStyle.FULL ? "ពុទ្ធសករាជ" : "ព.ស.";
+    }
+}
@@ -0,0 +1,247 @@
+package io.github.metheax;
+
+import io.github.metheax.domain.KhmerLunarDate;
+import io.github.metheax.exception.KhmerLunarDateException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * iCalendar (RFC 5545) feed of Khmer lunar dates and Buddhist holidays, written event by event to a Writer.
+ * Nothing but the current line and the new year schedule of the years is kept in memory, so a feed of a hundred
+ * years costs about the same heap as one year.
+ * <pre>
+ * KhmerIcsExporter.write(response.getOutputStream(), 2000, 2099);
+ * </pre>
+ * Days are all-day events, ម៉ោងទេវតាចុះ is a timed event in UTC, read in Asia/Phnom_Penh.
+ * UIDs are made of the date and the event, so a feed generated again updates the same events.
+ */
+public final class KhmerIcsExporter {
+
+    /**
+     * Events to write, one VEVENT each
+     */
+    public enum Event {
+        /** Every day, e.g. ១កើត ខែពិសាខ */
+        LUNAR_DAY,
+        /** ថ្ងៃសីល, see Chhankitek.silaDays */
+        SILA_DAY,
+        /** ថ្ងៃវិសាខបូជា */
+        VISAKHA_BOCHEA,
+        /** ថ្ងៃមហាសង្ក្រាន្ត, ថ្ងៃវ័នបត, ថ្ងៃឡើងស័ក and ម៉ោងទេវតាចុះ */
+        KHMER_NEW_YEAR
+    }
+
+    private static final String PRODID = "-//MetheaX//Khmer Chhankitek Calendar//KM";
+    private static final String UID_DOMAIN = "@khmer-chhankitek-calendar.metheax.github.io";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Phnom_Penh");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer out;
+    private final String timestamp;
+    private final StringBuilder value = new StringBuilder(64);
+    private int octets; // of the current content line
+
+    private KhmerIcsExporter(Writer out, Instant timestamp) {
+        this.out = out;
+        StringBuilder stamp = new StringBuilder(16);
+        appendDateTime(stamp, LocalDateTime.ofInstant(timestamp.truncatedTo(ChronoUnit.SECONDS), ZoneOffset.UTC));
+        this.timestamp = stamp.append('Z').toString();
+    }
+
+    /**
+     * Every event of the given gregorian years as UTF-8, see write(Writer, int, int, Set, Instant)
+     */
+    public static void write(OutputStream out, int fromGregorianYear, int toGregorianYear) throws IOException {
+        write(new OutputStreamWriter(out, StandardCharsets.UTF_8), fromGregorianYear, toGregorianYear);
+    }
+
+    /**
+     * Every event of the given gregorian years, see write(Writer, int, int, Set, Instant)
+     */
+    public static void write(Writer out, int fromGregorianYear, int toGregorianYear) throws IOException {
+        write(out, fromGregorianYear, toGregorianYear, EnumSet.allOf(Event.class), Instant.now());
+    }
+
+    /**
+     * Write one VCALENDAR with the chosen events of the given gregorian years. The writer is flushed, not closed.
+     * @param out destination, buffered here when it is not a BufferedWriter already
+     * @param fromGregorianYear first year, inclusive, from 1900
+     * @param toGregorianYear last year, inclusive
+     * @param events events to write
+     * @param timestamp DTSTAMP of every event, pass a fixed one for a feed that only changes with its content
+     */
+    public static void write(Writer out, int fromGregorianYear, int toGregorianYear, Set<Event> events,
+                             Instant timestamp) throws IOException {
+        if (fromGregorianYear < 1900) {
+            throw new KhmerLunarDateException("Lunar months are calculated from 1900");
+        }
+        Writer writer = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+        KhmerIcsExporter exporter = new KhmerIcsExporter(writer, timestamp);
+        exporter.property("BEGIN", "VCALENDAR");
+        exporter.property("VERSION", "2.0");
+        exporter.property("PRODID", PRODID);
+        exporter.property("CALSCALE", "GREGORIAN");
+        exporter.property("METHOD", "PUBLISH");
+        // ពីគ្រិស្ដសករាជ ទៅ ចុល្លសករាជ, one schedule so each year's info is shared with its neighbours
+        Iterator<KhmerNewYearCal.NewYearSchedule> newYears = events.contains(Event.KHMER_NEW_YEAR)
+                ? KhmerNewYearCal.schedule((fromGregorianYear + 544) - 1182, (toGregorianYear + 544) - 1182).iterator()
+                : Collections.<KhmerNewYearCal.NewYearSchedule>emptyIterator();
+        for (int year = fromGregorianYear; year <= toGregorianYear; year++) {
+            if (events.contains(Event.LUNAR_DAY)) {
+                exporter.writeLunarDays(year);
+            }
+            if (events.contains(Event.SILA_DAY)) {
+                for (long silaDay : Chhankitek.silaDays(year)) {
+                    exporter.writeDay(LocalDate.ofEpochDay(silaDay), "sila", "ថ្ងៃសីល");
+                }
+            }
+            if (events.contains(Event.VISAKHA_BOCHEA)) {
+                exporter.writeDay(LocalDate.ofEpochDay(Chhankitek.getVisakhaBocheaDay(year)), "visakha-bochea", "ថ្ងៃវិសាខបូជា");
+            }
+            if (events.contains(Event.KHMER_NEW_YEAR)) {
+                exporter.writeKhmerNewYear(newYears.next());
+            }
+        }
+        exporter.property("END", "VCALENDAR");
+        writer.flush();
+    }
+
+    private void writeLunarDays(int gregorianYear) throws IOException {
+        LocalDate day = LocalDate.of(gregorianYear, 1, 1);
+        Iterator<KhmerLunarDate> lunarDates = Chhankitek.range(day, day.plusYears(1)).iterator();
+        for (; lunarDates.hasNext(); day = day.plusDays(1)) {
+            KhmerLunarDate lunarDate = lunarDates.next();
+            writeDay(day, "lunar", lunarDate.getLunarDay() + " ខែ" + lunarDate.getLunarMonth());
+        }
+    }
+
+    private void writeKhmerNewYear(KhmerNewYearCal.NewYearSchedule schedule) throws IOException {
+        // date and time of ម៉ោងទេវតាចុះ, 24:00 is the midnight after ថ្ងៃមហាសង្ក្រាន្ត
+        LocalDateTime dateTime = schedule.getNewYearDateTime();
+        LocalDate day = Chhankitek.getMahaSangkranDay(dateTime);
+        writeDay(day, "maha-sangkran", "ថ្ងៃមហាសង្ក្រាន្ត");
+        for (LocalDate vanabatDay : schedule.getVanabatDays()) {
+            writeDay(vanabatDay, "vanabat", "ថ្ងៃវ័នបត");
+        }
+        writeDay(schedule.getLerngSakDay(), "lerng-sak", "ថ្ងៃឡើងស័ក");
+
+        KhmerNewYearCal.NewYearTime time = schedule.getKhmerNewYear().getTimeOfNewYear();
+        beginEvent(day, "tevada");
+        value.setLength(0);
+        appendDateTime(value, dateTime.atZone(ZONE).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+        property("DTSTART", value.append('Z'));
+        text("SUMMARY", "ម៉ោងទេវតាចុះ");
+        value.setLength(0);
+        value.append("ម៉ោងទេវតាចុះ ");
+        appendTwoDigits(value, time.getHour());
+        value.append(':');
+        appendTwoDigits(value, time.getMinute());
+        text("DESCRIPTION", value);
+        property("END", "VEVENT");
+    }
+
+    private void writeDay(LocalDate day, String uid, CharSequence summary) throws IOException {
+        beginEvent(day, uid);
+        value.setLength(0);
+        appendDate(value, day);
+        property("DTSTART;VALUE=DATE", value);
+        value.setLength(0);
+        appendDate(value, day.plusDays(1));
+        property("DTEND;VALUE=DATE", value);
+        text("SUMMARY", summary);
+        property("TRANSP", "TRANSPARENT");
+        property("END", "VEVENT");
+    }
+
+    private void beginEvent(LocalDate day, String uid) throws IOException {
+        property("BEGIN", "VEVENT");
+        value.setLength(0);
+        appendDate(value, day);
+        property("UID", value.append('-').append(uid).append(UID_DOMAIN));
+        property("DTSTAMP", timestamp);
+    }
+
+    /**
+     * TEXT value with \, ; , and new lines escaped
+     */
+    private void text(String name, CharSequence text) throws IOException {
+        property(name, text, true);
+    }
+
+    private void property(String name, CharSequence value) throws IOException {
+        property(name, value, false);
+    }
+
+    /**
+     * Content line folded at 75 octets of UTF-8, never inside a character or an escape, written as it is escaped
+     */
+    private void property(String name, CharSequence value, boolean text) throws IOException {
+        out.write(name);
+        out.write(':');
+        octets = name.length() + 1;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (text && (c == '\\' || c == ';' || c == ',' || c == '\n')) {
+                fold(2);
+                out.write('\\');
+                out.write(c == '\n' ? 'n' : c);
+                continue;
+            }
+            if (text && c == '\r') {
+                continue;
+            }
+            boolean pair = Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1));
+            fold(c < 0x80 ? 1 : c < 0x800 ? 2 : pair ? 4 : 3);
+            out.write(c);
+            if (pair) {
+                out.write(value.charAt(++i));
+            }
+        }
+        out.write("\r\n");
+    }
+
+    /**
+     * Start a continuation line when the next octets do not fit on the current one
+     */
+    private void fold(int length) throws IOException {
+        if (octets + length > MAX_LINE_OCTETS) {
+            out.write("\r\n ");
+            octets = 1;
+        }
+        octets += length;
+    }
+
+    private static void appendDate(StringBuilder out, LocalDate date) {
+        out.append(date.getYear());
+        appendTwoDigits(out, date.getMonthValue());
+        appendTwoDigits(out, date.getDayOfMonth());
+    }
+
+    private static void appendDateTime(StringBuilder out, LocalDateTime dateTime) {
+        appendDate(out, dateTime.toLocalDate());
+        out.append('T');
+        appendTwoDigits(out, dateTime.getHour());
+        appendTwoDigits(out, dateTime.getMinute());
+        appendTwoDigits(out, dateTime.getSecond());
+    }
+
+    private static void appendTwoDigits(StringBuilder out, int value) {
+        out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
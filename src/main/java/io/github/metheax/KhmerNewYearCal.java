@@ -1,45 +1,230 @@
 package io.github.metheax;
 
 import io.github.metheax.exception.SotinException;
+import io.github.metheax.metrics.ChhankitekListener;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static io.github.metheax.constant.Constant.LUNAR_MONTHS;
 
 /**
  * Author: Kuylim TITH
  * Date: 5/27/2021
+ * <p>
+ * Safe to share between threads: each value is calculated into locals and published whole through a volatile field,
+ * threads racing on the first read at most calculate it twice.
  */
 public class KhmerNewYearCal {
 
-    private final YearInfo info;
+    private static final byte UNKNOWN = 0;
+    private static final byte NO = 1;
+    private static final byte YES = 2;
+    private static final int NUMBER_OF_SOTINS = 4;
+
     private final int jsYear;
-    private final KhmerNewYear khmerNewYear;
+    private volatile YearInfo infoOfPreviousYear;
+    private volatile YearInfo info;
+    private volatile YearInfo infoOfNextYear;
+
+    // calculated on first use, UNKNOWN until then
+    private volatile byte has366dayOfPreviousYear = UNKNOWN;
+    private volatile byte has366day = UNKNOWN;
+    private volatile byte isAthikameasOfPreviousYear = UNKNOWN;
+    private volatile byte isAthikameas = UNKNOWN;
+    private volatile byte isChantreathimeasOfPreviousYear = UNKNOWN;
+    private volatile byte isChantreathimeas = UNKNOWN;
+    private volatile byte jesthHas30 = UNKNOWN;
+    private volatile LunarDateLerngSak lunarDateLerngSak;
+    private volatile int[] sunInaugurationsAsLibda; // សម្ពោធព្រះអាទិត្យ of each សុទិន, never changed once published
+    private volatile NewYearTime timeOfNewYear;
+    private volatile KhmerNewYear khmerNewYear;
 
+    /**
+     * Nothing is calculated until a value is read, each value at most once
+     *
+     * @param jsYear ចុល្លសករាជ
+     */
     public KhmerNewYearCal(int jsYear) {
         this.jsYear = jsYear;
-        this.info = getInfo(jsYear);
-        khmerNewYear = new KhmerNewYear(
-                info.harkun,
-                info.kromathopol,
-                info.avaman,
-                info.bodithey,
-                getHas366day(jsYear),
-                getIsAthikameas(jsYear),
-                getIsChantreathimeas(jsYear),
-                jesthHas30(jsYear),
-                getDayLerngSak(),
-                getLunarDateLerngSak(),
-                getNewYearDaySotins(),
-                getNewYearTime()
-        );
+        onCreated(jsYear);
+    }
+
+    private KhmerNewYearCal(int jsYear, YearInfo infoOfPreviousYear, YearInfo info, YearInfo infoOfNextYear) {
+        this.jsYear = jsYear;
+        onCreated(jsYear);
+        this.infoOfPreviousYear = infoOfPreviousYear;
+        this.info = info;
+        this.infoOfNextYear = infoOfNextYear;
     }
 
+    private static void onCreated(int jsYear) {
+        ChhankitekListener listener = ChhankitekMetrics.listener;
+        if (listener != null) {
+            listener.onKhmerNewYearCal(jsYear);
+        }
+    }
+
+    /**
+     * @return every value of the year, calculates the ones not read yet
+     */
     public KhmerNewYear getKhmerNewYear() {
-        return this.khmerNewYear;
+        KhmerNewYear result = khmerNewYear;
+        if (result == null) {
+            YearInfo infoOfYear = getInfo(jsYear);
+            result = new KhmerNewYear(
+                    infoOfYear.harkun,
+                    infoOfYear.kromathopol,
+                    infoOfYear.avaman,
+                    infoOfYear.bodithey,
+                    isHas366day(),
+                    isAthikameas(),
+                    isChantreathimeas(),
+                    isJesthHas30(),
+                    getDayLerngSak(),
+                    getLunarDateLerngSak(),
+                    getNewYearDaySotins(),
+                    getTimeOfNewYear()
+            );
+            khmerNewYear = result;
+        }
+        return result;
+    }
+
+    /**
+     * ថ្ងៃចូលឆ្នាំ of a range of years, the YearInfo of each year is calculated once and shared with its neighbours
+     *
+     * @param fromJsYear first ចុល្លសករាជ year, inclusive
+     * @param toJsYear last ចុល្លសករាជ year, inclusive
+     * @return new year days of each year
+     */
+    public static List<NewYearSchedule> schedule(int fromJsYear, int toJsYear) {
+        List<NewYearSchedule> schedules = new ArrayList<>(Math.max(0, toJsYear - fromJsYear + 1));
+        YearInfo infoOfPreviousYear = calculateInfo(fromJsYear - 1);
+        YearInfo info = calculateInfo(fromJsYear);
+        for (int jsYear = fromJsYear; jsYear <= toJsYear; jsYear++) {
+            YearInfo infoOfNextYear = calculateInfo(jsYear + 1);
+            KhmerNewYearCal cal = new KhmerNewYearCal(jsYear, infoOfPreviousYear, info, infoOfNextYear);
+            // ពីចុល្លសករាជ ទៅ គ្រិស្ដសករាជ
+            LocalDateTime newYearDateTime = Chhankitek.getKhmerNewYearDateTime(jsYear + 1182 - 544, cal);
+            schedules.add(new NewYearSchedule(jsYear, newYearDateTime, cal));
+            infoOfPreviousYear = info;
+            info = infoOfNextYear;
+        }
+        return schedules;
+    }
+
+    /**
+     * សុរិយគតិខ្មែរ
+     */
+    public boolean isHas366day() {
+        return getHas366day(jsYear);
+    }
+
+    /**
+     * 13 months
+     */
+    public boolean isAthikameas() {
+        return getIsAthikameas(jsYear);
+    }
+
+    /**
+     * 30ថ្ងៃនៅខែជេស្ឋ
+     */
+    public boolean isChantreathimeas() {
+        return getIsChantreathimeas(jsYear);
+    }
+
+    /**
+     * ឆែកមើលថាជាឆ្នាំដែលខែជេស្ឋមាន៣០ថ្ងៃឬទេ
+     */
+    public boolean isJesthHas30() {
+        byte result = jesthHas30;
+        if (result == UNKNOWN) {
+            boolean tmp = getIsChantreathimeas(jsYear);
+            if (getIsAthikameas(jsYear) && getIsChantreathimeas(jsYear)) {
+                tmp = false;
+            }
+            if (!getIsChantreathimeas(jsYear) && getIsAthikameas(jsYear - 1) && getIsChantreathimeas(jsYear - 1)) {
+                tmp = true;
+            }
+            result = tmp ? YES : NO;
+            jesthHas30 = result;
+        }
+        return result == YES;
+    }
+
+    /**
+     * រកមើលថាតើថ្ងៃឡើងស័កចំថ្ងៃអ្វី
+     *
+     * @return ថ្ងៃឡើងស័ក ច័ន្ទ អង្គារ ...
+     */
+    public int getDayLerngSak() {
+        return (getInfo(jsYear).harkun - 2) % 7;
+    }
+
+    /**
+     * គណនារកថ្ងៃឡើងស័ក
+     *
+     * @return ថ្ងៃទី ខែ ឡើងស័ក
+     */
+    public LunarDateLerngSak getLunarDateLerngSak() {
+        LunarDateLerngSak result = lunarDateLerngSak;
+        if (result == null) {
+            int bodithey = getInfo(jsYear).bodithey;
+            if (getIsAthikameas(jsYear - 1) && getIsChantreathimeas(jsYear - 1)) {
+                bodithey = (bodithey + 1) % 30;
+            }
+            result = new LunarDateLerngSak(
+                    bodithey >= 6 ? (bodithey - 1) : bodithey,
+                    bodithey >= 6 ? LUNAR_MONTHS.get("ចេត្រ") : LUNAR_MONTHS.get("ពិសាខ")
+            );
+            lunarDateLerngSak = result;
+        }
+        return result;
+    }
+
+    /**
+     * សុទិនសម្រាប់គណនាថ្ងៃចូលឆ្នាំ ថ្ងៃវ័នបត និង ថ្ងៃឡើងស័ក
+     */
+    public List<NewYearDaySotins> getNewYearDaySotins() {
+        List<NewYearDaySotins> newYearDaySotins = new ArrayList<>(NUMBER_OF_SOTINS);
+        for (int i = 0; i < NUMBER_OF_SOTINS; i++) {
+            int sunInaugurationAsLibda = getSunInaugurationAsLibda(i);
+            newYearDaySotins.add(new NewYearDaySotins(getFirstSotin() + i, Math.floorDiv(sunInaugurationAsLibda, 30 * 60),
+                    getAngsar(sunInaugurationAsLibda), sunInaugurationAsLibda % 60));
+        }
+        return newYearDaySotins;
+    }
+
+    /**
+     * ម៉ោងទេវតាចុះ
+     */
+    public NewYearTime getTimeOfNewYear() {
+        NewYearTime result = timeOfNewYear;
+        if (result == null) {
+            for (int i = 0; i < NUMBER_OF_SOTINS; i++) {
+                int sunInaugurationAsLibda = getSunInaugurationAsLibda(i);
+                if (getAngsar(sunInaugurationAsLibda) == 0) {
+                    int libda = sunInaugurationAsLibda % 60; // ២៤ ម៉ោង មាន ៦០លិប្ដា
+                    int minutes = (24 * 60) - (libda * 24);
+                    result = new NewYearTime(Math.floorDiv(minutes, 60), (minutes % 60));
+                    timeOfNewYear = result;
+                    return result;
+                }
+            }
+            throw new SotinException("Wrong calculation on new years hour. No sotin with angsar = 0");
+        }
+        return result;
+    }
+
+    /**
+     * @return ៤ when the first sotin has angsar 0 (two ថ្ងៃវ័នបត), else ៣
+     */
+    public int getNumberOfNewYearDays() {
+        return getAngsar(getSunInaugurationAsLibda(0)) == 0 ? 4 : 3;
     }
 
     /**
@@ -49,6 +234,35 @@ public class KhmerNewYearCal {
      * @returns {{bodithey: number, avaman: number, kromathopol: number, harkun: number}}
      */
     private YearInfo getInfo(int jsYear) {
+        YearInfo result;
+        if (jsYear == this.jsYear) {
+            result = info;
+            if (result == null) {
+                result = calculateInfo(jsYear);
+                info = result;
+            }
+            return result;
+        }
+        if (jsYear == this.jsYear - 1) {
+            result = infoOfPreviousYear;
+            if (result == null) {
+                result = calculateInfo(jsYear);
+                infoOfPreviousYear = result;
+            }
+            return result;
+        }
+        if (jsYear == this.jsYear + 1) {
+            result = infoOfNextYear;
+            if (result == null) {
+                result = calculateInfo(jsYear);
+                infoOfNextYear = result;
+            }
+            return result;
+        }
+        return calculateInfo(jsYear);
+    }
+
+    private static YearInfo calculateInfo(int jsYear) {
         int h = 292207 * jsYear + 373;
         int harkun = (int) Math.floor(h / 800d) + 1;
         int kromathopol = 800 - (h % 800);
@@ -62,99 +276,116 @@ public class KhmerNewYearCal {
     /**
      * ឆ្នាំចុល្លសករាជដែលមាន៣៦៦ថ្ងៃ
      *
-     * @param jsYear
+     * @param jsYear this or the previous year
      * @returns {boolean}
      */
     private boolean getHas366day(int jsYear) {
-        YearInfo infoOfYear = getInfo(jsYear);
-        return infoOfYear.kromathopol <= 207;
+        boolean ofThisYear = jsYear == this.jsYear;
+        byte result = ofThisYear ? has366day : has366dayOfPreviousYear;
+        if (result == UNKNOWN) {
+            YearInfo infoOfYear = getInfo(jsYear);
+            result = infoOfYear.kromathopol <= 207 ? YES : NO;
+            if (ofThisYear) {
+                has366day = result;
+            } else {
+                has366dayOfPreviousYear = result;
+            }
+        }
+        return result == YES;
     }
 
     /**
      * រកឆ្នាំអធិកមាស
      *
-     * @param jsYear
+     * @param jsYear this or the previous year
      * @returns {boolean}
      */
     private boolean getIsAthikameas(int jsYear) {
-        YearInfo infoOfYear = getInfo(jsYear);
-        YearInfo infoOfNextYear = getInfo((jsYear + 1));
-        return (!(infoOfYear.bodithey == 25 && infoOfNextYear.bodithey == 5) &&
-                (infoOfYear.bodithey > 24 ||
-                        infoOfYear.bodithey < 6 ||
-                        (infoOfYear.bodithey == 24 &&
-                                infoOfNextYear.bodithey == 6
-                        )
-                )
-        );
+        boolean ofThisYear = jsYear == this.jsYear;
+        byte result = ofThisYear ? isAthikameas : isAthikameasOfPreviousYear;
+        if (result == UNKNOWN) {
+            YearInfo infoOfYear = getInfo(jsYear);
+            YearInfo infoOfNextYear = getInfo((jsYear + 1));
+            boolean athikameas = (!(infoOfYear.bodithey == 25 && infoOfNextYear.bodithey == 5) &&
+                    (infoOfYear.bodithey > 24 ||
+                            infoOfYear.bodithey < 6 ||
+                            (infoOfYear.bodithey == 24 &&
+                                    infoOfNextYear.bodithey == 6
+                            )
+                    )
+            );
+            result = athikameas ? YES : NO;
+            if (ofThisYear) {
+                isAthikameas = result;
+            } else {
+                isAthikameasOfPreviousYear = result;
+            }
+        }
+        return result == YES;
     }
 
     /**
      * រកឆ្នាំចន្ទ្រាធិមាស
      *
-     * @param jsYear
+     * @param jsYear this or the previous year
      * @returns {boolean}
      */
     private boolean getIsChantreathimeas(int jsYear) {
-        YearInfo infoOfYear = getInfo(jsYear);
-        YearInfo infoOfNextYear = getInfo((jsYear + 1));
-        YearInfo infoOfPreviousYear = getInfo(jsYear);
-        boolean has366day = getHas366day(jsYear);
-        return ((has366day && infoOfYear.avaman < 127) ||
-                (!(infoOfYear.avaman == 137 &&
-                        infoOfNextYear.avaman == 0) &&
-                        ((!has366day &&
-                                infoOfYear.avaman < 138) ||
-                                (infoOfPreviousYear.avaman == 137 &&
-                                        infoOfYear.avaman == 0
-                                )
-                        )
-                )
-        );
+        boolean ofThisYear = jsYear == this.jsYear;
+        byte result = ofThisYear ? isChantreathimeas : isChantreathimeasOfPreviousYear;
+        if (result == UNKNOWN) {
+            YearInfo infoOfYear = getInfo(jsYear);
+            YearInfo infoOfNextYear = getInfo((jsYear + 1));
+            YearInfo infoOfPreviousYear = getInfo(jsYear);
+            boolean has366day = getHas366day(jsYear);
+            boolean chantreathimeas = ((has366day && infoOfYear.avaman < 127) ||
+                    (!(infoOfYear.avaman == 137 &&
+                            infoOfNextYear.avaman == 0) &&
+                            ((!has366day &&
+                                    infoOfYear.avaman < 138) ||
+                                    (infoOfPreviousYear.avaman == 137 &&
+                                            infoOfYear.avaman == 0
+                                    )
+                            )
+                    )
+            );
+            result = chantreathimeas ? YES : NO;
+            if (ofThisYear) {
+                isChantreathimeas = result;
+            } else {
+                isChantreathimeasOfPreviousYear = result;
+            }
+        }
+        return result == YES;
     }
 
-    /**
-     * ឆែកមើលថាជាឆ្នាំដែលខែជេស្ឋមាន៣០ថ្ងៃឬទេ
-     *
-     * @type {boolean}
-     */
-    private boolean jesthHas30(int jsYear) {
-        boolean tmp = getIsChantreathimeas(jsYear);
-        if (getIsAthikameas(jsYear) && getIsChantreathimeas(jsYear)) {
-            tmp = false;
-        }
-        if (!getIsChantreathimeas(jsYear) && getIsAthikameas(jsYear - 1) && getIsChantreathimeas(jsYear - 1)) {
-            tmp = true;
-        }
-        return tmp;
+    private int getFirstSotin() {
+        return getHas366day(jsYear - 1) ? 363 : 362; // សុទិន
     }
 
-    /**
-     * រកមើលថាតើថ្ងៃឡើងស័កចំថ្ងៃអ្វី
-     *
-     * @type {int}
-     */
-    private int getDayLerngSak() {
-        return (info.harkun - 2) % 7;
+    private static int getAngsar(int sunInaugurationAsLibda) {
+        // អង្សាស្មើសូន្យ គីជាថ្ងៃចូលឆ្នាំ, មួយ ឬ ពីរ ថ្ងៃបន្ទាប់ជាថ្ងៃវ័នបត ហើយ ថ្ងៃចុងក្រោយគីឡើងស័ក
+        return Math.floorDiv(sunInaugurationAsLibda % (30 * 60), 60);
     }
 
     /**
-     * គណនារកថ្ងៃឡើងស័ក
-     *
-     * @type {{month, day}}
+     * @param index 0 - 3, សុទិន from the first one
      */
-    private LunarDateLerngSak getLunarDateLerngSak() {
-        int bodithey = info.bodithey;
-        if (getIsAthikameas(jsYear - 1) && getIsChantreathimeas(jsYear - 1)) {
-            bodithey = (bodithey + 1) % 30;
-        }
-        return new LunarDateLerngSak(
-                bodithey >= 6 ? (bodithey - 1) : bodithey,
-                bodithey >= 6 ? LUNAR_MONTHS.get("ចេត្រ") : LUNAR_MONTHS.get("ពិសាខ")
-        );
+    private int getSunInaugurationAsLibda(int index) {
+        int[] result = sunInaugurationsAsLibda;
+        if (result == null) {
+            // all four together, the array is filled before it is published
+            result = new int[NUMBER_OF_SOTINS];
+            int firstSotin = getFirstSotin();
+            for (int i = 0; i < NUMBER_OF_SOTINS; i++) {
+                result[i] = calculateSunInaugurationAsLibda(firstSotin + i);
+            }
+            sunInaugurationsAsLibda = result;
+        }
+        return result[index];
     }
 
-    private SunInfo getSunInfo(int sotin) { // សុទិន
+    private int calculateSunInaugurationAsLibda(int sotin) { // សុទិន
         YearInfo infoOfPreviousYear = getInfo(jsYear - 1);
         // ១ រាសី = ៣០ អង្សា
         // ១ អង្សា = ៦០ លិប្ដា
@@ -163,48 +394,30 @@ public class KhmerNewYearCal {
 
         int leftOver = getLeftOver(sunAverageAsLibda);
 
-        int kaen = (int) Math.floor(leftOver / (30d * 60d));
+        int kaen = Math.floorDiv(leftOver, 30 * 60);
 
-        LastOver lastLeftOver = getLastLeftOver(kaen, leftOver);
+        int lastLeftOver = getLastLeftOver(kaen, leftOver);
+        int lastLeftOverReasey = Math.floorDiv(lastLeftOver, 30 * 60);
+        int lastLeftOverAngsar = Math.floorDiv(lastLeftOver % (30 * 60), 60);
+        int lastLeftOverLibda = lastLeftOver % 60;
 
         // ខណ្ឌ និង pouichalip
-        int khan = 0;
-        int pouichalip = 0;
+        int khan;
+        int pouichalip;
 
-        if (lastLeftOver.angsar >= 15) {
-            khan = 2 * lastLeftOver.reasey + 1;
-            pouichalip = 60 * (lastLeftOver.angsar - 15) + lastLeftOver.libda;
+        if (lastLeftOverAngsar >= 15) {
+            khan = 2 * lastLeftOverReasey + 1;
+            pouichalip = 60 * (lastLeftOverAngsar - 15) + lastLeftOverLibda;
         } else {
-            khan = 2 * lastLeftOver.reasey;
-            pouichalip = 60 * lastLeftOver.angsar + lastLeftOver.libda;
+            khan = 2 * lastLeftOverReasey;
+            pouichalip = 60 * lastLeftOverAngsar + lastLeftOverLibda;
         }
 
-        // phol
-        Phol phol = getPhol(khan, pouichalip);
-
-        int sunInaugurationAsLibda = 0; // សម្ពោធព្រះអាទិត្យ
-        int pholAsLibda = (30 * 60 * phol.reasey) + (60 * phol.angsar) + phol.libda;
+        int pholAsLibda = getPholAsLibda(khan, pouichalip);
         if (kaen <= 5) {
-            sunInaugurationAsLibda = sunAverageAsLibda - pholAsLibda;
-        } else {
-            sunInaugurationAsLibda = sunAverageAsLibda + pholAsLibda;
+            return sunAverageAsLibda - pholAsLibda; // សម្ពោធព្រះអាទិត្យ
         }
-        return new SunInfo(sunAverageAsLibda, khan, pouichalip, phol, sunInaugurationAsLibda);
-    }
-
-    private List<NewYearDaySotins> getNewYearDaySotins() { // ចំនួនថ្ងៃវ័នបត
-        List<Integer> sotins = getHas366day(jsYear - 1) ?
-                new ArrayList<>(Arrays.asList(363, 364, 365, 366)) :
-                new ArrayList<>(Arrays.asList(362, 363, 364, 365)); // សុទិន
-        List<NewYearDaySotins> newYearDaySotins = new ArrayList<>();
-        for (int i : sotins) {
-            SunInfo sunInfo = getSunInfo(i);
-            int reasey = (int) Math.floor(sunInfo.sunInaugurationAsLibda / (30d * 60d));
-            int angsar = (int) Math.floor((sunInfo.sunInaugurationAsLibda % (30d * 60d)) / (60d)); // អង្សាស្មើសូន្យ គីជាថ្ងៃចូលឆ្នាំ, មួយ ឬ ពីរ ថ្ងៃបន្ទាប់ជាថ្ងៃវ័នបត ហើយ ថ្ងៃចុងក្រោយគីឡើងស័ក
-            int libda = sunInfo.sunInaugurationAsLibda % 60;
-            newYearDaySotins.add(new NewYearDaySotins(i, reasey, angsar, libda));
-        }
-        return newYearDaySotins;
+        return sunAverageAsLibda + pholAsLibda;
     }
 
     private int getSunAverageAsLibda(int sotin, YearInfo info) {
@@ -227,25 +440,20 @@ public class KhmerNewYearCal {
         return leftOver;
     }
 
-    private LastOver getLastLeftOver(int kaen, int leftOver) {
-        int rs = -1;
-        List<Integer> l1 = new ArrayList<>(Arrays.asList(0, 1, 2));
-        List<Integer> l2 = new ArrayList<>(Arrays.asList(3, 4, 5));
-        List<Integer> l3 = new ArrayList<>(Arrays.asList(6, 7, 8));
-        List<Integer> l4 = new ArrayList<>(Arrays.asList(9, 10, 11));
-        if (l1.contains(kaen)) {
-            rs = kaen;
-        } else if (l2.contains(kaen)) {
-            rs = (30 * 60 * 6) - leftOver; // R6.A0.L0 - leftover
-        } else if (l3.contains(kaen)) {
-            rs = leftOver - (30 * 60 * 6); // leftover - R6.A0.L0
-        } else if (l4.contains(kaen)) {
-            rs = ((30 * 60 * 11) + (60 * 29) + 60) - leftOver; // R11.A29.L60 - leftover
-        }
-        return new LastOver((int) Math.floor(rs / (30d * 60d)), (int) Math.floor((rs % (30d * 60d)) / (60d)), rs % 60);
+    private int getLastLeftOver(int kaen, int leftOver) {
+        if (kaen >= 0 && kaen <= 2) {
+            return kaen;
+        } else if (kaen >= 3 && kaen <= 5) {
+            return (30 * 60 * 6) - leftOver; // R6.A0.L0 - leftover
+        } else if (kaen >= 6 && kaen <= 8) {
+            return leftOver - (30 * 60 * 6); // leftover - R6.A0.L0
+        } else if (kaen >= 9 && kaen <= 11) {
+            return ((30 * 60 * 11) + (60 * 29) + 60) - leftOver; // R11.A29.L60 - leftover
+        }
+        return -1;
     }
 
-    private Phol getPhol(int khan, int pouichalip) {
+    private int getPholAsLibda(int khan, int pouichalip) {
         int multiplicity = 0;
         int chhaya = 0;
         int[] multiplicities = {35, 32, 27, 22, 13, 5};
@@ -266,20 +474,54 @@ public class KhmerNewYearCal {
                 break;
         }
 
-        int q = (int) Math.floor((pouichalip * multiplicity) / 900d);
+        int q = Math.floorDiv(pouichalip * multiplicity, 900);
 
-        return new Phol(0, (int) Math.floor((q + chhaya) / 60d), (q + chhaya) % 60);
+        // phol, រាសី is always 0
+        return q + chhaya;
     }
 
-    private NewYearTime getNewYearTime() {
-        List<NewYearDaySotins> sotinNewYear = getNewYearDaySotins().stream()
-                .filter(o -> o.angsar == 0).collect(Collectors.toList());
-        if (!sotinNewYear.isEmpty()) {
-            int libda = sotinNewYear.get(0).libda; // ២៤ ម៉ោង មាន ៦០លិប្ដា
-            int minutes = (24 * 60) - (libda * 24);
-            return new NewYearTime((int) Math.floor(minutes / 60d), (minutes % 60));
-        } else {
-            throw new SotinException("Wrong calculation on new years hour. No sotin with angsar = 0");
+    public static class NewYearSchedule {
+        private final int jsYear;
+        private final LocalDateTime newYearDateTime;
+        private final KhmerNewYearCal khmerNewYearCal;
+
+        NewYearSchedule(int jsYear, LocalDateTime newYearDateTime, KhmerNewYearCal khmerNewYearCal) {
+            this.jsYear = jsYear;
+            this.newYearDateTime = newYearDateTime;
+            this.khmerNewYearCal = khmerNewYearCal;
+        }
+
+        public int getJsYear() {
+            return jsYear;
+        }
+
+        /**
+         * @return ម៉ោងទេវតាចុះ, the midnight after ថ្ងៃមហាសង្ក្រាន្ត when it is 24:00
+         */
+        public LocalDateTime getNewYearDateTime() {
+            return newYearDateTime;
+        }
+
+        /**
+         * @return ថ្ងៃវ័នបត, one or two days
+         */
+        public List<LocalDate> getVanabatDays() {
+            List<LocalDate> days = new ArrayList<>(2);
+            for (int i = 1; i < khmerNewYearCal.getNumberOfNewYearDays() - 1; i++) {
+                days.add(Chhankitek.getMahaSangkranDay(newYearDateTime).plusDays(i));
+            }
+            return days;
+        }
+
+        /**
+         * @return ថ្ងៃឡើងស័ក
+         */
+        public LocalDate getLerngSakDay() {
+            return Chhankitek.getMahaSangkranDay(newYearDateTime).plusDays(khmerNewYearCal.getNumberOfNewYearDays() - 1L);
+        }
+
+        public KhmerNewYear getKhmerNewYear() {
+            return khmerNewYearCal.getKhmerNewYear();
         }
     }
 
@@ -331,6 +573,10 @@ public class KhmerNewYearCal {
         }
     }
 
+    /**
+     * @deprecated not used by the calculation, kept for compatibility and will be removed
+     */
+    @Deprecated
     public static class Phol {
         private final int reasey;
         private final int angsar;
@@ -403,6 +649,10 @@ public class KhmerNewYearCal {
         }
     }
 
+    /**
+     * @deprecated not used by the calculation, kept for compatibility and will be removed
+     */
+    @Deprecated
     public static class SunInfo {
         private final int sunAverageAsLibda;
         private final int khan;
@@ -439,6 +689,10 @@ public class KhmerNewYearCal {
         }
     }
 
+    /**
+     * @deprecated not used by the calculation, kept for compatibility and will be removed
+     */
+    @Deprecated
     public static class LastOver {
         private final int reasey;
         private final int angsar;
@@ -541,5 +795,12 @@ public class KhmerNewYearCal {
         public NewYearTime getTimeOfNewYear() {
             return timeOfNewYear;
         }
+
+        /**
+         * @return ៤ when the first sotin has angsar 0 (two ថ្ងៃវ័នបត), else ៣
+         */
+        public int getNumberOfNewYearDays() {
+            return newYearsDaySotins.get(0).getAngsar() == 0 ? 4 : 3;
+        }
     }
 }
@@ -0,0 +1,362 @@
+package io.github.metheax.cli;
+
+import io.github.metheax.Chhankitek;
+import io.github.metheax.domain.KhmerLunarDate;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.FileDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * Main class of the jar: converts dates read line by line into Khmer lunar dates written as CSV or TSV.
+ * <pre>
+ * java -jar khmer-chhankitek-calendar.jar [--column N] [--separator C] [--skip-header] [--tsv] [--zone ZONE] [FILE]
+ * </pre>
+ * A date is yyyy-MM-dd, an ISO date time (an offset or zone is read as local date time, like
+ * Chhankitek.toKhmerLunarDateFormat(ZonedDateTime)) or epoch milliseconds read in --zone, Asia/Phnom_Penh by default.
+ * Output columns are the input date and the text properties of KhmerLunarDate. Each day is converted once while it
+ * stays in a small cache, the time of day only matters on the days ពុទ្ធសករាជ or ឆ្នាំសត្វ changes.
+ * Lines that cannot be converted are reported on stderr and skipped, then the exit status is 1.
+ */
+public final class BatchConverter {
+
+    private static final String USAGE = "Usage: java -jar khmer-chhankitek-calendar.jar [--column N] [--separator C]"
+            + " [--skip-header] [--tsv] [--zone ZONE] [FILE]\n"
+            + "  FILE           dates, one per line, stdin when missing or -\n"
+            + "  --column N     read the date from CSV column N (1 is the first), the whole line by default\n"
+            + "  --separator C  input column separator, , by default, tab for a tab\n"
+            + "  --skip-header  do not convert the first input line\n"
+            + "  --tsv          write TSV instead of CSV\n"
+            + "  --zone ZONE    time zone of epoch milliseconds, Asia/Phnom_Penh by default";
+    private static final String[] HEADER = {"date", "dayOfWeek", "lunarDay", "lunarMonth", "lunarZodiac", "lunarEra",
+            "lunarYear"};
+    private static final int CACHE_SIZE = 4096; // power of 2, slot = epoch day modulo size
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private final int column;
+    private final char separator;
+    private final char outputSeparator;
+    private final ZoneRules zoneRules;
+
+    private final long[] cachedDays = new long[CACHE_SIZE];
+    private final boolean[] cachedWholeDay = new boolean[CACHE_SIZE];
+    private final byte[][] cachedFields = new byte[CACHE_SIZE][];
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private long epochDay;
+    private long nanoOfDay;
+
+    BatchConverter(int column, char separator, boolean tsv, ZoneId zone, WritableByteChannel channel) {
+        this.column = column;
+        this.separator = separator;
+        this.outputSeparator = tsv ? '\t' : ',';
+        this.zoneRules = zone.getRules();
+        this.channel = channel;
+        Arrays.fill(cachedDays, Long.MIN_VALUE);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int column = 0;
+        char separator = ',';
+        boolean skipHeader = false;
+        boolean tsv = false;
+        ZoneId zone = ZoneId.of("Asia/Phnom_Penh");
+        String file = "-";
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--column":
+                        column = Integer.parseInt(args[++i]);
+                        if (column < 1) {
+                            throw new IllegalArgumentException("Column starts from 1");
+                        }
+                        break;
+                    case "--separator":
+                        String value = args[++i];
+                        separator = "tab".equals(value) ? '\t' : value.charAt(0);
+                        break;
+                    case "--skip-header":
+                        skipHeader = true;
+                        break;
+                    case "--tsv":
+                        tsv = true;
+                        break;
+                    case "--zone":
+                        zone = ZoneId.of(args[++i]);
+                        break;
+                    case "--help":
+                        System.out.println(USAGE);
+                        return;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option " + args[i]);
+                        }
+                        file = args[i];
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage() == null ? e.toString() : e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        BatchConverter converter = new BatchConverter(column, separator, tsv, zone,
+                new FileOutputStream(FileDescriptor.out).getChannel());
+        long start = System.nanoTime();
+        long[] counts;
+        try (InputStream in = "-".equals(file) ? System.in : Files.newInputStream(Paths.get(file))) {
+            counts = converter.convert(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE),
+                    skipHeader);
+        }
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+        System.err.println("Converted " + counts[0] + " rows in " + Math.round(seconds * 1000) / 1000.0 + " s ("
+                + Math.round(counts[0] / seconds) + " rows/s)" + (counts[1] > 0 ? ", skipped " + counts[1] : ""));
+        if (counts[1] > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Convert every line of the input and flush the output
+     * @return converted and skipped line counts
+     */
+    long[] convert(BufferedReader reader, boolean skipHeader) throws IOException {
+        writeHeader();
+        long converted = 0;
+        long skipped = 0;
+        long lineNumber = 0;
+        String line;
+        if (skipHeader && reader.readLine() != null) {
+            lineNumber++;
+        }
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty()) {
+                continue;
+            }
+            String date = column == 0 ? line.trim() : field(line, column, separator);
+            try {
+                parse(date);
+                byte[] fields = getLunarFields(epochDay, nanoOfDay);
+                writeField(date);
+                write(fields);
+                put((byte) '\n');
+                converted++;
+            } catch (RuntimeException e) {
+                if (++skipped <= MAX_REPORTED_ERRORS) {
+                    System.err.println("Line " + lineNumber + ": cannot convert " + date + " (" + e.getMessage() + ")");
+                }
+            }
+        }
+        flushBuffer();
+        return new long[]{converted, skipped};
+    }
+
+    /**
+     * Set epochDay and nanoOfDay from yyyy-MM-dd, an ISO date time or epoch milliseconds
+     */
+    private void parse(String date) {
+        if (date == null || date.isEmpty()) {
+            throw new DateTimeException("No date");
+        }
+        if (date.length() == 10 && date.charAt(4) == '-' && date.charAt(7) == '-') {
+            epochDay = LocalDate.of(digits(date, 0, 4), digits(date, 5, 7), digits(date, 8, 10)).toEpochDay();
+            nanoOfDay = 0;
+        } else if (isEpochMilli(date)) {
+            long epochMilli = Long.parseLong(date);
+            long epochSecond = Math.floorDiv(epochMilli, 1000L);
+            long localSecond = epochSecond + (zoneRules.isFixedOffset() ? zoneRules.getOffset(Instant.EPOCH)
+                    : zoneRules.getOffset(Instant.ofEpochSecond(epochSecond))).getTotalSeconds();
+            epochDay = Math.floorDiv(localSecond, 86400L);
+            nanoOfDay = Math.floorMod(localSecond, 86400L) * 1_000_000_000L + Math.floorMod(epochMilli, 1000L) * 1_000_000L;
+        } else {
+            TemporalAccessor dateTime = DateTimeFormatter.ISO_DATE_TIME.parse(date);
+            epochDay = LocalDate.from(dateTime).toEpochDay();
+            nanoOfDay = LocalTime.from(dateTime).toNanoOfDay();
+        }
+    }
+
+    /**
+     * Separators and Khmer text of the lunar date after the input column. A day is converted at its first and last
+     * nanosecond, when both agree every row of that day shares the cached bytes.
+     */
+    private byte[] getLunarFields(long epochDay, long nanoOfDay) {
+        int slot = (int) (epochDay & (CACHE_SIZE - 1));
+        if (cachedDays[slot] != epochDay) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            KhmerLunarDate startOfDay = Chhankitek.toKhmerLunarDateFormat(date);
+            KhmerLunarDate endOfDay = Chhankitek.toKhmerLunarDateFormat(date.atTime(LocalTime.MAX));
+            cachedFields[slot] = render(startOfDay);
+            cachedWholeDay[slot] = startOfDay.equals(endOfDay);
+            cachedDays[slot] = epochDay;
+        }
+        if (cachedWholeDay[slot] || nanoOfDay == 0) {
+            return cachedFields[slot];
+        }
+        return render(Chhankitek.toKhmerLunarDateFormat(LocalDateTime.of(LocalDate.ofEpochDay(epochDay),
+                LocalTime.ofNanoOfDay(nanoOfDay))));
+    }
+
+    private byte[] render(KhmerLunarDate lunarDate) {
+        return new StringBuilder(96)
+                .append(outputSeparator).append(lunarDate.getDayOfWeek())
+                .append(outputSeparator).append(lunarDate.getLunarDay())
+                .append(outputSeparator).append(lunarDate.getLunarMonth())
+                .append(outputSeparator).append(lunarDate.getLunarZodiac())
+                .append(outputSeparator).append(lunarDate.getLunarEra())
+                .append(outputSeparator).append(lunarDate.getLunarYear())
+                .toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeHeader() throws IOException {
+        for (int i = 0; i < HEADER.length; i++) {
+            if (i > 0) {
+                put((byte) outputSeparator);
+            }
+            writeField(HEADER[i]);
+        }
+        put((byte) '\n');
+    }
+
+    /**
+     * Input text as one output field, quoted for CSV or with tabs and new lines replaced by spaces for TSV
+     */
+    private void writeField(String text) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                writeField(text, true);
+                return;
+            }
+            quote |= c == outputSeparator || c == '"' || c == '\n' || c == '\r';
+        }
+        writeField(text, quote);
+    }
+
+    private void writeField(String text, boolean special) throws IOException {
+        if (!special) {
+            for (int i = 0; i < text.length(); i++) {
+                put((byte) text.charAt(i));
+            }
+            return;
+        }
+        if (outputSeparator == '\t') {
+            write(text.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ').getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        put((byte) '"');
+        write(text.replace("\"", "\"\"").getBytes(StandardCharsets.UTF_8));
+        put((byte) '"');
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        if (buffer.remaining() < bytes.length) {
+            flushBuffer();
+            if (bytes.length > buffer.capacity()) {
+                ByteBuffer large = ByteBuffer.wrap(bytes);
+                while (large.hasRemaining()) {
+                    channel.write(large);
+                }
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    private void put(byte b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flushBuffer();
+        }
+        buffer.put(b);
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Column of a CSV line, "quoted" with "" for a quote inside
+     * @return null when the line has fewer columns
+     */
+    static String field(String line, int column, char separator) {
+        int start = 0;
+        for (int i = 1; i < column; i++) {
+            start = endOfField(line, start, separator) + 1;
+            if (start > line.length()) {
+                return null;
+            }
+        }
+        int end = endOfField(line, start, separator);
+        if (start < line.length() && line.charAt(start) == '"') {
+            return line.substring(start + 1, Math.max(start + 1, end - 1)).replace("\"\"", "\"").trim();
+        }
+        return line.substring(start, end).trim();
+    }
+
+    private static int endOfField(String line, int start, char separator) {
+        boolean quoted = start < line.length() && line.charAt(start) == '"';
+        for (int i = quoted ? start + 1 : start; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                }
+            } else if (c == separator) {
+                return i;
+            }
+        }
+        return line.length();
+    }
+
+    private static boolean isEpochMilli(String text) {
+        for (int i = text.charAt(0) == '-' && text.length() > 1 ? 1 : 0; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeException("Invalid date " + text);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -1,53 +1,217 @@
 package io.github.metheax.domain;
 
+import java.time.DayOfWeek;
+import java.util.Map;
+
+import static io.github.metheax.constant.Constant.*;
+import static io.github.metheax.utils.ChhankitekUtils.convertIntegerToKhmerNumber;
+import static io.github.metheax.utils.ChhankitekUtils.getDayOfWeekInKhmer;
+
 /**
  * Author: Kuylim TITH
  * Date: 5/27/2021
  */
-public class KhmerLunarDate {
+public class KhmerLunarDate implements Comparable<KhmerLunarDate> {
 
-    private final String dayOfWeek;
-    private final String lunarDay;
-    private final String lunarMonth;
-    private final String lunarZodiac;
-    private final String lunarEra;
-    private final String lunarYear;
+    private static final String[][] LUNAR_DAY_FORMAT = new String[2][15];
 
-    public KhmerLunarDate(String dayOfWeek, String lunarDay, String lunarMonth, String lunarZodiac, String lunarEra, String lunarYear) {
+    static {
+        for (int count = 1; count <= 15; count++) {
+            LUNAR_DAY_FORMAT[MOON_STATUS.get("កើត")][count - 1] = convertIntegerToKhmerNumber(count) + " កើត";
+            LUNAR_DAY_FORMAT[MOON_STATUS.get("រោច")][count - 1] = convertIntegerToKhmerNumber(count) + " រោច";
+        }
+    }
+
+    private final DayOfWeek dayOfWeek;
+    private final int moonCount;
+    private final int moonStatus;
+    private final int lunarMonth;
+    private final int lunarZodiac;
+    private final int lunarEra;
+    private final int beYear;
+    private String lunarYear; // rendered on first use
+
+    /**
+     * @param dayOfWeek gregorian day of week
+     * @param moonCount 1 - 15
+     * @param moonStatus value of Constant.MOON_STATUS
+     * @param lunarMonth key of Constant.LUNAR_MONTHS_FORMAT
+     * @param lunarZodiac key of Constant.ANIMAL_YEAR
+     * @param lunarEra key of Constant.ERA_YEAR
+     * @param beYear year in Buddhist Era
+     */
+    public KhmerLunarDate(DayOfWeek dayOfWeek, int moonCount, int moonStatus, int lunarMonth, int lunarZodiac, int lunarEra, int beYear) {
         this.dayOfWeek = dayOfWeek;
-        this.lunarDay = lunarDay;
+        this.moonCount = moonCount;
+        this.moonStatus = moonStatus;
         this.lunarMonth = lunarMonth;
         this.lunarZodiac = lunarZodiac;
         this.lunarEra = lunarEra;
-        this.lunarYear = lunarYear;
+        this.beYear = beYear;
+    }
+
+    /**
+     * Values read back from the Khmer text the getters return,
+     * e.g. new KhmerLunarDate("សុក្រ", "១៤ កើត", "ស្រាពណ៍", "ជូត", "ចត្វាស័ក", "២៥៧៦")
+     *
+     * @deprecated the text is only parsed into the values of the other constructor, use that one
+     * @throws IllegalArgumentException when a text is not one this class writes
+     */
+    @Deprecated
+    public KhmerLunarDate(String dayOfWeek, String lunarDay, String lunarMonth, String lunarZodiac, String lunarEra, String lunarYear) {
+        this(parseDayOfWeek(dayOfWeek), parseLunarDay(lunarDay) % 15 + 1, parseLunarDay(lunarDay) / 15,
+                parseLunarMonth(lunarMonth), keyOf(ANIMAL_YEAR, lunarZodiac), keyOf(ERA_YEAR, lunarEra),
+                parseLunarYear(lunarYear));
+    }
+
+    private static DayOfWeek parseDayOfWeek(String text) {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (getDayOfWeekInKhmer(dayOfWeek).equals(text)) {
+                return dayOfWeek;
+            }
+        }
+        throw new IllegalArgumentException("Invalid day of week: " + text);
+    }
+
+    /**
+     * @return moonStatus * 15 + moonCount - 1
+     */
+    private static int parseLunarDay(String text) {
+        for (int moonStatus = 0; moonStatus < LUNAR_DAY_FORMAT.length; moonStatus++) {
+            for (int i = 0; i < LUNAR_DAY_FORMAT[moonStatus].length; i++) {
+                if (LUNAR_DAY_FORMAT[moonStatus][i].equals(text)) {
+                    return moonStatus * 15 + i;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid lunar day: " + text);
+    }
+
+    private static int parseLunarMonth(String text) {
+        for (KhmerMonth month : KhmerMonth.values()) {
+            if (month.getKhmerName().equals(text)) {
+                return month.getValue();
+            }
+        }
+        throw new IllegalArgumentException("Invalid lunar month: " + text);
+    }
+
+    private static int keyOf(Map<Integer, String> names, String text) {
+        for (Map.Entry<Integer, String> name : names.entrySet()) {
+            if (name.getValue().equals(text)) {
+                return name.getKey();
+            }
+        }
+        throw new IllegalArgumentException("Invalid lunar zodiac or era: " + text);
+    }
+
+    private static int parseLunarYear(String text) {
+        try {
+            return Integer.parseInt(text); // Khmer digits are decimal digits to Character.digit
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid lunar year: " + text, e);
+        }
     }
 
     public String getDayOfWeek() {
-        return dayOfWeek;
+        return getDayOfWeekInKhmer(dayOfWeek);
     }
 
     public String getLunarDay() {
-        return lunarDay;
+        return LUNAR_DAY_FORMAT[moonStatus][moonCount - 1];
     }
 
     public String getLunarMonth() {
-        return lunarMonth;
+        return KhmerMonth.of(lunarMonth).getKhmerName();
     }
 
     public String getLunarZodiac() {
-        return lunarZodiac;
+        return ANIMAL_YEAR.get(lunarZodiac);
     }
 
     public String getLunarEra() {
-        return lunarEra;
+        return ERA_YEAR.get(lunarEra);
     }
 
     public String getLunarYear() {
-        return lunarYear;
+        String year = lunarYear;
+        if (year == null) {
+            year = convertIntegerToKhmerNumber(beYear);
+            lunarYear = year;
+        }
+        return year;
+    }
+
+    public DayOfWeek getDayOfWeekValue() {
+        return dayOfWeek;
+    }
+
+    public int getMoonCount() {
+        return moonCount;
+    }
+
+    public int getMoonStatus() {
+        return moonStatus;
+    }
+
+    public int getLunarMonthValue() {
+        return lunarMonth;
+    }
+
+    public KhmerMonth getKhmerMonth() {
+        return KhmerMonth.of(lunarMonth);
+    }
+
+    public int getLunarZodiacValue() {
+        return lunarZodiac;
+    }
+
+    public int getLunarEraValue() {
+        return lunarEra;
+    }
+
+    public int getBeYear() {
+        return beYear;
+    }
+
+    /**
+     * @return same date packed by PackedLunarDate
+     */
+    public int toPacked() {
+        return PackedLunarDate.pack(beYear, lunarMonth, moonStatus * 15 + moonCount - 1, lunarZodiac, lunarEra);
+    }
+
+    /**
+     * Calendar order, then day of week
+     */
+    @Override
+    public int compareTo(KhmerLunarDate other) {
+        int result = Integer.compare(toPacked(), other.toPacked());
+        return result != 0 ? result : dayOfWeek.compareTo(other.dayOfWeek);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        KhmerLunarDate that = (KhmerLunarDate) o;
+        return moonCount == that.moonCount && moonStatus == that.moonStatus && lunarMonth == that.lunarMonth
+                && lunarZodiac == that.lunarZodiac && lunarEra == that.lunarEra && beYear == that.beYear
+                && dayOfWeek == that.dayOfWeek;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * toPacked() + dayOfWeek.ordinal();
     }
 
     @Override
     public String toString() {
-        return String.format("ថ្ងៃ%s %s ខែ%s ឆ្នាំ%s %s ពុទ្ធសករាជ %s", dayOfWeek, lunarDay, lunarMonth, lunarZodiac, lunarEra, lunarYear);
+        return String.format("ថ្ងៃ%s %s ខែ%s ឆ្នាំ%s %s ពុទ្ធសករាជ %s", getDayOfWeek(), getLunarDay(), getLunarMonth(),
+                getLunarZodiac(), getLunarEra(), getLunarYear());
     }
 }
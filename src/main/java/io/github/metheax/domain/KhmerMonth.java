@@ -0,0 +1,92 @@
+package io.github.metheax.domain;
+
+import io.github.metheax.exception.KhmerMonthException;
+
+/**
+ * Khmer lunar months, ordinal is the value of Constant.LUNAR_MONTHS.
+ * Month length and next month depend on the year type: regular, leap month (អធិកមាស) or leap day (ចន្ទ្រាធិមាស).
+ */
+public enum KhmerMonth {
+    MIGASIR("មិគសិរ"),
+    BOSS("បុស្ស"),
+    MEAKH("មាឃ"),
+    PHALKUN("ផល្គុន"),
+    CHETR("ចេត្រ"),
+    PISAKH("ពិសាខ"),
+    JESTH("ជេស្ឋ"),
+    ASATH("អាសាឍ"),
+    SRAPOAN("ស្រាពណ៍"),
+    PHOTRABOT("ភទ្របទ"),
+    ASSOCH("អស្សុជ"),
+    KADEK("កក្ដិក"),
+    PATHAMASATH("បឋមាសាឍ"),
+    TUTIYASATH("ទុតិយាសាឍ");
+
+    public static final int REGULAR_YEAR = 0;
+    public static final int LEAP_MONTH_YEAR = 1; // អធិកមាស, បឋមាសាឍ and ទុតិយាសាឍ instead of អាសាឍ
+    public static final int LEAP_DAY_YEAR = 2; // ចន្ទ្រាធិមាស, ជេស្ឋ has 30 days
+
+    private static final KhmerMonth[] VALUES = values();
+    private static final int[][] NUMBER_OF_DAYS = new int[3][VALUES.length];
+    private static final KhmerMonth[][] NEXT_MONTHS = new KhmerMonth[3][VALUES.length];
+
+    static {
+        for (int yearType = REGULAR_YEAR; yearType <= LEAP_DAY_YEAR; yearType++) {
+            for (KhmerMonth month : VALUES) {
+                // មិគសិរ : 29 , បុស្ស : 30 , មាឃ : 29 .. 30 .. 29 ..30 .....
+                NUMBER_OF_DAYS[yearType][month.ordinal()] = month.ordinal() % 2 == 0 ? 29 : 30;
+                NEXT_MONTHS[yearType][month.ordinal()] = VALUES[(month.ordinal() + 1) % 12];
+            }
+            NUMBER_OF_DAYS[yearType][PATHAMASATH.ordinal()] = 30;
+            NUMBER_OF_DAYS[yearType][TUTIYASATH.ordinal()] = 30;
+            NEXT_MONTHS[yearType][PATHAMASATH.ordinal()] = TUTIYASATH;
+            NEXT_MONTHS[yearType][TUTIYASATH.ordinal()] = SRAPOAN;
+        }
+        NUMBER_OF_DAYS[LEAP_DAY_YEAR][JESTH.ordinal()] = 30;
+        NEXT_MONTHS[LEAP_MONTH_YEAR][JESTH.ordinal()] = PATHAMASATH;
+    }
+
+    private final String khmerName;
+
+    KhmerMonth(String khmerName) {
+        this.khmerName = khmerName;
+    }
+
+    /**
+     * @param value value of Constant.LUNAR_MONTHS (0 - 13)
+     * @return KhmerMonth
+     */
+    public static KhmerMonth of(int value) {
+        if (value < 0 || value >= VALUES.length) {
+            throw new KhmerMonthException("Invalid month");
+        }
+        return VALUES[value];
+    }
+
+    /**
+     * @return value of Constant.LUNAR_MONTHS
+     */
+    public int getValue() {
+        return ordinal();
+    }
+
+    public String getKhmerName() {
+        return khmerName;
+    }
+
+    /**
+     * @param yearType REGULAR_YEAR, LEAP_MONTH_YEAR or LEAP_DAY_YEAR
+     * @return 29 or 30
+     */
+    public int getNumberOfDays(int yearType) {
+        return NUMBER_OF_DAYS[yearType][ordinal()];
+    }
+
+    /**
+     * @param yearType REGULAR_YEAR, LEAP_MONTH_YEAR or LEAP_DAY_YEAR
+     * @return month after this one
+     */
+    public KhmerMonth next(int yearType) {
+        return NEXT_MONTHS[yearType][ordinal()];
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.metheax.domain;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Month view of Chhankitek.monthGrid: whole weeks covering a gregorian month, one cell per day, each with its lunar
+ * date packed by PackedLunarDate and a ថ្ងៃសីល flag. Immutable and small enough to cache or serialize as it is,
+ * serialized through SerializationProxy so a stream is checked by the constructor like any other grid.
+ */
+public final class MonthGrid implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final YearMonth yearMonth;
+    private final DayOfWeek firstDayOfWeek;
+    private final long firstDay; // epoch day of the first cell
+    private final int[] lunarDates; // packed by PackedLunarDate
+    private final long silaDays; // bit per cell
+
+    /**
+     * @param yearMonth gregorian month
+     * @param firstDayOfWeek day of week of the first column
+     * @param firstDay epoch day of the first cell
+     * @param lunarDates lunar date of each cell, packed by PackedLunarDate, a multiple of 7 and at most 63 cells
+     * @param silaDays bit set for each cell that is ថ្ងៃសីល, lowest bit is the first cell
+     */
+    public MonthGrid(YearMonth yearMonth, DayOfWeek firstDayOfWeek, long firstDay, int[] lunarDates, long silaDays) {
+        Objects.requireNonNull(yearMonth, "yearMonth");
+        Objects.requireNonNull(firstDayOfWeek, "firstDayOfWeek");
+        if (lunarDates.length % 7 != 0 || lunarDates.length > 63) {
+            throw new IllegalArgumentException("Invalid number of cells: " + lunarDates.length);
+        }
+        if (LocalDate.ofEpochDay(firstDay).getDayOfWeek() != firstDayOfWeek) {
+            throw new IllegalArgumentException("First cell " + LocalDate.ofEpochDay(firstDay) + " is not a " + firstDayOfWeek);
+        }
+        if (silaDays >>> lunarDates.length != 0) {
+            throw new IllegalArgumentException("ថ្ងៃសីល flag after the last cell");
+        }
+        this.yearMonth = yearMonth;
+        this.firstDayOfWeek = firstDayOfWeek;
+        this.firstDay = firstDay;
+        this.lunarDates = lunarDates.clone();
+        this.silaDays = silaDays;
+    }
+
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    public DayOfWeek getFirstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    /**
+     * @return number of cells, 7 per week
+     */
+    public int size() {
+        return lunarDates.length;
+    }
+
+    public int getNumberOfWeeks() {
+        return lunarDates.length / 7;
+    }
+
+    /**
+     * @param cell 0 is the first column of the first week
+     * @return gregorian day of the cell
+     */
+    public LocalDate getDate(int cell) {
+        return LocalDate.ofEpochDay(firstDay + checkCell(cell));
+    }
+
+    /**
+     * @return false for the days of the previous and next month that fill the first and last week
+     */
+    public boolean isInMonth(int cell) {
+        return YearMonth.from(getDate(cell)).equals(yearMonth);
+    }
+
+    /**
+     * @return lunar date of the cell, decode it with PackedLunarDate
+     */
+    public int getPackedLunarDate(int cell) {
+        return lunarDates[checkCell(cell)];
+    }
+
+    /**
+     * @return true when the cell is ៨ កើត, ១៥ កើត, ៨ រោច or the last day of the lunar month
+     */
+    public boolean isSilaDay(int cell) {
+        return (silaDays >>> checkCell(cell) & 1L) != 0;
+    }
+
+    /**
+     * @return lunar date of the cell with Khmer text, built on each call
+     */
+    public KhmerLunarDate getKhmerLunarDate(int cell) {
+        int packed = getPackedLunarDate(cell);
+        return new KhmerLunarDate(firstDayOfWeek.plus(cell), PackedLunarDate.getMoonCount(packed),
+                PackedLunarDate.getMoonStatus(packed), PackedLunarDate.getMonth(packed), PackedLunarDate.getZodiac(packed),
+                PackedLunarDate.getEra(packed), PackedLunarDate.getBeYear(packed));
+    }
+
+    private int checkCell(int cell) {
+        if (cell < 0 || cell >= lunarDates.length) {
+            throw new IndexOutOfBoundsException("Cell " + cell + ", size " + lunarDates.length);
+        }
+        return cell;
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("MonthGrid is read through its SerializationProxy");
+    }
+
+    /**
+     * Serialized form of MonthGrid, read back through the constructor so a forged stream gets its checks and the
+     * array is never shared with the stream
+     */
+    private static final class SerializationProxy implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final YearMonth yearMonth;
+        private final DayOfWeek firstDayOfWeek;
+        private final long firstDay;
+        private final int[] lunarDates;
+        private final long silaDays;
+
+        private SerializationProxy(MonthGrid grid) {
+            this.yearMonth = grid.yearMonth;
+            this.firstDayOfWeek = grid.firstDayOfWeek;
+            this.firstDay = grid.firstDay;
+            this.lunarDates = grid.lunarDates;
+            this.silaDays = grid.silaDays;
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            try {
+                return new MonthGrid(yearMonth, firstDayOfWeek, firstDay, lunarDates, silaDays);
+            } catch (RuntimeException e) {
+                InvalidObjectException invalid = new InvalidObjectException(e.getMessage());
+                invalid.initCause(e);
+                throw invalid;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.metheax.domain;
+
+/**
+ * Khmer lunar date packed into one int, see Chhankitek.toPackedLunar.
+ * Bits from high to low: BE year (14), month position within BE year (4), moon status (1), moon count (4),
+ * zodiac (4), era (4). Packed values are never negative and compare in calendar order.
+ */
+public final class PackedLunarDate {
+
+    private static final int BE_YEAR_SHIFT = 17;
+    private static final int POSITION_SHIFT = 13;
+    private static final int MOON_STATUS_SHIFT = 12;
+    private static final int MOON_COUNT_SHIFT = 8;
+    private static final int ZODIAC_SHIFT = 4;
+    private static final int MAX_BE_YEAR = (1 << 14) - 1;
+
+    // ពុទ្ធសករាជ starts on ១ រោច ខែពិសាខ, ពិសាខ has position 0 after ថ្ងៃវិសាខបូជា and 14 before it
+    private static final int[] POSITION_OF_MONTH = {9, 10, 11, 12, 13, 14, 1, 2, 5, 6, 7, 8, 3, 4};
+    private static final int[] MONTH_AT_POSITION = {5, 6, 7, 12, 13, 8, 9, 10, 11, 0, 1, 2, 3, 4, 5};
+
+    private PackedLunarDate() {
+    }
+
+    /**
+     * @param beYear Buddhist Era year (0 - 16383)
+     * @param month key of Constant.LUNAR_MONTHS_FORMAT (0 - 13)
+     * @param day 0 - 29, ១កើត ... ១៥កើត ១រោច ... ១៥រោច
+     * @param zodiac key of Constant.ANIMAL_YEAR (0 - 11)
+     * @param era key of Constant.ERA_YEAR (0 - 9)
+     * @return packed lunar date
+     */
+    public static int pack(int beYear, int month, int day, int zodiac, int era) {
+        if (beYear < 0 || beYear > MAX_BE_YEAR) {
+            throw new IllegalArgumentException("BE year out of range: " + beYear);
+        }
+        int position = month == 5 && day > 14 ? 0 : POSITION_OF_MONTH[month];
+        int moonStatus = day > 14 ? 1 : 0;
+        int moonCount = (day % 15) + 1;
+        return (beYear << BE_YEAR_SHIFT) | (position << POSITION_SHIFT) | (moonStatus << MOON_STATUS_SHIFT)
+                | (moonCount << MOON_COUNT_SHIFT) | (zodiac << ZODIAC_SHIFT) | era;
+    }
+
+    public static int getBeYear(int packed) {
+        return packed >>> BE_YEAR_SHIFT;
+    }
+
+    /**
+     * @return key of Constant.LUNAR_MONTHS_FORMAT
+     */
+    public static int getMonth(int packed) {
+        return MONTH_AT_POSITION[(packed >>> POSITION_SHIFT) & 0xF];
+    }
+
+    /**
+     * @return 0 - 29, ១កើត ... ១៥កើត ១រោច ... ១៥រោច
+     */
+    public static int getDay(int packed) {
+        return getMoonStatus(packed) * 15 + getMoonCount(packed) - 1;
+    }
+
+    /**
+     * @return value of Constant.MOON_STATUS, 0: កើត, 1: រោច
+     */
+    public static int getMoonStatus(int packed) {
+        return (packed >>> MOON_STATUS_SHIFT) & 0x1;
+    }
+
+    /**
+     * @return 1 - 15
+     */
+    public static int getMoonCount(int packed) {
+        return (packed >>> MOON_COUNT_SHIFT) & 0xF;
+    }
+
+    /**
+     * @return key of Constant.ANIMAL_YEAR
+     */
+    public static int getZodiac(int packed) {
+        return (packed >>> ZODIAC_SHIFT) & 0xF;
+    }
+
+    /**
+     * @return key of Constant.ERA_YEAR
+     */
+    public static int getEra(int packed) {
+        return packed & 0xF;
+    }
+}
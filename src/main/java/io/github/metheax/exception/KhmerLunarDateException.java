@@ -0,0 +1,14 @@
+package io.github.metheax.exception;
+
+/**
+ * Author: Kuylim TITH
+ * Date: 5/28/2021
+ */
+public class KhmerLunarDateException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public KhmerLunarDateException(String s) {
+        super(s);
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.metheax.metrics;
+
+/**
+ * Receives what the library spends its time on. Register one with ChhankitekMetrics.setListener or with a
+ * META-INF/services/io.github.metheax.metrics.ChhankitekListener file, HistogramListener is a ready one.
+ * <p>
+ * Methods are called on the converting thread, so they must be thread safe and return quickly.
+ * Every method does nothing by default.
+ */
+public interface ChhankitekListener {
+
+    /**
+     * Caches of Chhankitek
+     */
+    enum Cache {
+        /** ថ្ងៃវិសាខបូជា by gregorian year */
+        VISAKHA_BOCHEA,
+        /** ថ្ងៃចូលឆ្នាំ by gregorian year */
+        KHMER_NEW_YEAR,
+        /** Lunar months since 1900, a miss walks it further */
+        LUNAR_MONTH_INDEX
+    }
+
+    /**
+     * One Chhankitek.toKhmerLunarDateFormat call
+     * @param nanos time it took
+     */
+    default void onConversion(long nanos) {
+    }
+
+    /**
+     * Lunar months walked to extend the month index. Dates inside the index are found by binary search without
+     * walking, so this only follows a LUNAR_MONTH_INDEX miss.
+     * @param steps number of months
+     */
+    default void onLunarMonthSteps(int steps) {
+    }
+
+    /**
+     * A KhmerNewYearCal was created
+     * @param jsYear its ចុល្លសករាជ
+     */
+    default void onKhmerNewYearCal(int jsYear) {
+    }
+
+    default void onCacheHit(Cache cache) {
+    }
+
+    default void onCacheMiss(Cache cache) {
+    }
+}
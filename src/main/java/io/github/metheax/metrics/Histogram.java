@@ -0,0 +1,98 @@
+package io.github.metheax.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non negative longs in power of 2 buckets, each a LongAdder so threads recording at the same
+ * time do not contend. Bucket 0 holds 0 (and negative values), bucket i holds 2^(i-1) to 2^i - 1.
+ * Reads are not atomic across buckets, which is fine for reporting.
+ */
+public final class Histogram {
+
+    public static final int NUMBER_OF_BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[NUMBER_OF_BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public Histogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        buckets[64 - Long.numberOfLeadingZeros(v)].increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getSum() / count;
+    }
+
+    /**
+     * @param bucket 0 - 63
+     * @return number of values recorded into the bucket
+     */
+    public long getBucketCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     * @param bucket 0 - 63
+     * @return largest value of the bucket
+     */
+    public static long getBucketUpperBound(int bucket) {
+        return (1L << bucket) - 1;
+    }
+
+    /**
+     * @param percentile 0 - 100, e.g. 99
+     * @return upper bound of the bucket holding that percentile, at most twice the real value; 0 when empty
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[NUMBER_OF_BUCKETS];
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        long rank = (long) Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(getBucketUpperBound(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sum.reset();
+        max.reset();
+    }
+}
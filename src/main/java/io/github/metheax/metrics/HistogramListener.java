@@ -0,0 +1,89 @@
+package io.github.metheax.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ChhankitekListener that keeps everything in lock-free counters, read them to bridge into a metrics library.
+ * <pre>
+ * HistogramListener metrics = new HistogramListener();
+ * ChhankitekMetrics.setListener(metrics);
+ * metrics.getConversionNanos().getPercentile(99);
+ * </pre>
+ */
+public class HistogramListener implements ChhankitekListener {
+
+    private final Histogram conversionNanos = new Histogram();
+    private final Histogram lunarMonthSteps = new Histogram();
+    private final LongAdder khmerNewYearCals = new LongAdder();
+    private final LongAdder[] cacheHits = newCounters();
+    private final LongAdder[] cacheMisses = newCounters();
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[Cache.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    @Override
+    public void onConversion(long nanos) {
+        conversionNanos.record(nanos);
+    }
+
+    @Override
+    public void onLunarMonthSteps(int steps) {
+        lunarMonthSteps.record(steps);
+    }
+
+    @Override
+    public void onKhmerNewYearCal(int jsYear) {
+        khmerNewYearCals.increment();
+    }
+
+    @Override
+    public void onCacheHit(Cache cache) {
+        cacheHits[cache.ordinal()].increment();
+    }
+
+    @Override
+    public void onCacheMiss(Cache cache) {
+        cacheMisses[cache.ordinal()].increment();
+    }
+
+    /**
+     * @return time of each conversion in nanoseconds
+     */
+    public Histogram getConversionNanos() {
+        return conversionNanos;
+    }
+
+    /**
+     * @return months walked each time the lunar month index was extended
+     */
+    public Histogram getLunarMonthSteps() {
+        return lunarMonthSteps;
+    }
+
+    public long getKhmerNewYearCalCount() {
+        return khmerNewYearCals.sum();
+    }
+
+    public long getCacheHits(Cache cache) {
+        return cacheHits[cache.ordinal()].sum();
+    }
+
+    public long getCacheMisses(Cache cache) {
+        return cacheMisses[cache.ordinal()].sum();
+    }
+
+    public void reset() {
+        conversionNanos.reset();
+        lunarMonthSteps.reset();
+        khmerNewYearCals.reset();
+        for (Cache cache : Cache.values()) {
+            cacheHits[cache.ordinal()].reset();
+            cacheMisses[cache.ordinal()].reset();
+        }
+    }
+}
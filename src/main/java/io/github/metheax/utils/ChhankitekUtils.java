@@ -2,8 +2,10 @@ package io.github.metheax.utils;
 
 import io.github.metheax.constant.Constant;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -40,18 +42,77 @@ public class ChhankitekUtils {
     }
 
     public static String convertIntegerToKhmerNumber(int number) {
-        String result = "";
-        String num = String.valueOf(number);
-        for (int i = 0; i < num.length(); i++) {
-            char c = num.charAt(i);
-            result = result.concat(Constant.NUMBERS.get(String.valueOf(c)));
+        return appendKhmerNumber(new StringBuilder(11), number).toString();
+    }
+
+    /**
+     * Append number in Khmer digits without creating intermediate strings
+     * @param out StringBuilder to append to
+     * @param number any int
+     * @return out
+     */
+    public static StringBuilder appendKhmerNumber(StringBuilder out, int number) {
+        try {
+            appendKhmerNumber((Appendable) out, number);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
         }
-        return result;
+        return out;
+    }
+
+    /**
+     * Append number in Khmer digits without creating intermediate strings
+     * @param out Appendable to append to, e.g. Writer
+     * @param number any int
+     * @return out
+     */
+    public static <A extends Appendable> A appendKhmerNumber(A out, int number) throws IOException {
+        long value = number;
+        if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor * 10 <= value) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.append(KhmerDigits.DIGITS[(int) (value / divisor % 10)]);
+        }
+        return out;
     }
 
     public static String getDayOfWeekInKhmer(LocalDateTime dateTime) {
-        DateTimeFormatter dayOfWeekFormat = DateTimeFormatter.ofPattern("EEEE");
-        String dayOfWeek = dayOfWeekFormat.format(dateTime);
-        return Constant.DAY_OF_WEEK.get(dayOfWeek.toUpperCase());
+        return getDayOfWeekInKhmer(dateTime.getDayOfWeek());
+    }
+
+    public static String getDayOfWeekInKhmer(DayOfWeek dayOfWeek) {
+        return KhmerDaysOfWeek.NAMES[dayOfWeek.ordinal()];
+    }
+
+    /**
+     * Khmer digit by value, read from Constant.NUMBERS on first use since Constant itself is built with this class
+     */
+    private static final class KhmerDigits {
+        private static final char[] DIGITS = new char[10];
+
+        static {
+            for (int i = 0; i < DIGITS.length; i++) {
+                DIGITS[i] = Constant.NUMBERS.get(String.valueOf(i)).charAt(0);
+            }
+        }
+    }
+
+    /**
+     * Khmer day of week by DayOfWeek ordinal, independent of the default locale
+     */
+    private static final class KhmerDaysOfWeek {
+        private static final String[] NAMES = new String[7];
+
+        static {
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                NAMES[dayOfWeek.ordinal()] = Constant.DAY_OF_WEEK.get(dayOfWeek.name());
+            }
+        }
     }
 }
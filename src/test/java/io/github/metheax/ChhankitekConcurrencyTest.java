@@ -0,0 +1,85 @@
+package io.github.metheax;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Conversions on a thread pool against the same dates converted on one thread. Each side loads the library in its own
+ * class loader, so both start from cold caches: the pool races on filling the year caches and walking the lunar
+ * month index past the calendar table, the sequential side is an independent reference.
+ */
+public class ChhankitekConcurrencyTest {
+
+    private static final int NUMBER_OF_DATES = 20_000;
+    private static final int NUMBER_OF_THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
+    @Test
+    public void concurrentConversionsMatchSequentialConversions() throws Exception {
+        LocalDateTime[] dates = randomDates();
+
+        Method concurrent = toKhmerLunarDateFormat(newColdClassLoader());
+        String[] concurrentResults = new String[dates.length];
+        ExecutorService pool = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < NUMBER_OF_THREADS; t++) {
+                int thread = t;
+                futures.add(pool.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = thread; i < dates.length; i += NUMBER_OF_THREADS) {
+                        concurrentResults[i] = String.valueOf(concurrent.invoke(null, dates[i]));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Method sequential = toKhmerLunarDateFormat(newColdClassLoader());
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(dates[i].toString(), String.valueOf(sequential.invoke(null, dates[i])), concurrentResults[i]);
+        }
+    }
+
+    /**
+     * 1900 - 2399, past the end of the calendar table, at any minute of the day
+     */
+    private static LocalDateTime[] randomDates() {
+        Random random = new Random(20210528);
+        LocalDateTime[] dates = new LocalDateTime[NUMBER_OF_DATES];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDateTime.of(1900 + random.nextInt(500), 1, 1, 0, 0)
+                    .plusMinutes(random.nextInt(365 * 24 * 60));
+        }
+        return dates;
+    }
+
+    private static ClassLoader newColdClassLoader() {
+        URL classes = Chhankitek.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[]{classes}, null);
+    }
+
+    private static Method toKhmerLunarDateFormat(ClassLoader classLoader) throws Exception {
+        return classLoader.loadClass(Chhankitek.class.getName()).getMethod("toKhmerLunarDateFormat", LocalDateTime.class);
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.metheax;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ម៉ោងទេវតាចុះ at 24:00 is the midnight after ថ្ងៃមហាសង្ក្រាន្ត, not the one before it
+ */
+public class KhmerNewYearTest {
+
+    @Test
+    public void newYearAt2400IsTheMidnightEndingMahaSangkranDay() {
+        assertEquals(LocalDateTime.of(1974, 4, 14, 0, 0), Chhankitek.getKhmerNewYearDateTime(1974));
+        assertEquals(LocalDateTime.of(2032, 4, 14, 0, 0), Chhankitek.getKhmerNewYearDateTime(2032));
+    }
+
+    @Test
+    public void calculatedNewYearMatchesCalendarTable() {
+        for (int year : new int[]{1916, 1974, 2024, 2032, 2059}) {
+            assertEquals(String.valueOf(year), Chhankitek.getKhmerNewYearDateTime(year),
+                    Chhankitek.getKhmerNewYearDateTime(year, new KhmerNewYearCal((year + 544) - 1182)));
+        }
+    }
+
+    @Test
+    public void scheduleCountsDaysFromMahaSangkranDay() {
+        KhmerNewYearCal.NewYearSchedule schedule = KhmerNewYearCal.schedule(1974 + 544 - 1182, 1974 + 544 - 1182).get(0);
+        assertEquals(LocalDateTime.of(1974, 4, 14, 0, 0), schedule.getNewYearDateTime());
+        assertEquals(Arrays.asList(LocalDate.of(1974, 4, 14), LocalDate.of(1974, 4, 15)), schedule.getVanabatDays());
+        assertEquals(LocalDate.of(1974, 4, 16), schedule.getLerngSakDay());
+        assertEquals(LocalDate.of(1974, 4, 13), LocalDate.of(1974, 1, 1).query(KhmerAdjusters.nextKhmerNewYear()));
+    }
+
+    @Test
+    public void zodiacChangesAtNewYear() {
+        LocalDateTime newYear = LocalDateTime.of(1974, 4, 14, 0, 0);
+        assertEquals(Chhankitek.toKhmerLunarDateFormat(newYear.minusDays(1)).getLunarZodiac(),
+                Chhankitek.toKhmerLunarDateFormat(newYear.minusMinutes(1)).getLunarZodiac());
+        assertNotEquals(Chhankitek.toKhmerLunarDateFormat(newYear.minusMinutes(1)).getLunarZodiac(),
+                Chhankitek.toKhmerLunarDateFormat(newYear).getLunarZodiac());
+    }
+
+    @Test
+    public void icsTevadaStartsAtItsDescription() throws Exception {
+        StringWriter ics = new StringWriter();
+        KhmerIcsExporter.write(ics, 1974, 1974, EnumSet.of(KhmerIcsExporter.Event.KHMER_NEW_YEAR), Instant.EPOCH);
+        // 24:00 in Asia/Phnom_Penh at the end of 13 April
+        assertTrue(ics.toString(), ics.toString().contains("UID:19740413-tevada@khmer-chhankitek-calendar.metheax.github.io\r\n"
+                + "DTSTAMP:19700101T000000Z\r\nDTSTART:19740413T170000Z\r\n"));
+        assertTrue(ics.toString(), ics.toString().contains("DESCRIPTION:ម៉ោងទេវតាចុះ 24:00\r\n"));
+    }
+}
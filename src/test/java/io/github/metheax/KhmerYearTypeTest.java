@@ -0,0 +1,41 @@
+package io.github.metheax;
+
+import io.github.metheax.exception.KhmerLunarDateException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Leap year counts and lookups only cover the BE years whose year type does not overflow, 0 - 7347
+ */
+public class KhmerYearTypeTest {
+
+    @Test
+    public void countAndNextInsideTheMemoizedYears() {
+        int count = 0;
+        for (int beYear = 2500; beYear <= 2600; beYear++) {
+            if (Chhankitek.isKhmerLeapMonth(beYear)) {
+                count++;
+            }
+        }
+        assertEquals(count, Chhankitek.countKhmerLeapMonthYears(2500, 2600));
+        int next = Chhankitek.nextKhmerLeapMonthYear(2565);
+        assertEquals(0, Chhankitek.countKhmerLeapMonthYears(2566, next - 1));
+        assertEquals(1, Chhankitek.countKhmerLeapMonthYears(next, next));
+    }
+
+    @Test(expected = KhmerLunarDateException.class, timeout = 10_000)
+    public void countToMaxValueIsRejected() {
+        Chhankitek.countKhmerLeapMonthYears(0, Integer.MAX_VALUE);
+    }
+
+    @Test(expected = KhmerLunarDateException.class)
+    public void countFromNegativeYearIsRejected() {
+        Chhankitek.countKhmerLeapDayYears(-1, 10);
+    }
+
+    @Test(expected = KhmerLunarDateException.class)
+    public void nextStopsAtTheLastMemoizedYear() {
+        Chhankitek.nextKhmerLeapDayYear(7347);
+    }
+}
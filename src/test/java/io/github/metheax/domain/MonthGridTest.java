@@ -0,0 +1,72 @@
+package io.github.metheax.domain;
+
+import io.github.metheax.Chhankitek;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MonthGridTest {
+
+    @Test
+    public void serializedGridReadsBackTheSameCells() throws Exception {
+        MonthGrid grid = Chhankitek.monthGrid(YearMonth.of(2021, 5), DayOfWeek.SUNDAY);
+        MonthGrid copy = (MonthGrid) deserialize(serialize(grid));
+        assertEquals(grid.getYearMonth(), copy.getYearMonth());
+        assertEquals(grid.size(), copy.size());
+        for (int cell = 0; cell < grid.size(); cell++) {
+            assertEquals(grid.getDate(cell), copy.getDate(cell));
+            assertEquals(grid.getPackedLunarDate(cell), copy.getPackedLunarDate(cell));
+            assertEquals(grid.isSilaDay(cell), copy.isSilaDay(cell));
+        }
+    }
+
+    @Test
+    public void streamWithFirstCellOnAnotherDayIsRejected() throws Exception {
+        MonthGrid grid = Chhankitek.monthGrid(YearMonth.of(2021, 5), DayOfWeek.SUNDAY);
+        byte[] stream = serialize(grid);
+        long firstDay = grid.getDate(0).toEpochDay();
+        replaceLong(stream, firstDay, firstDay + 1);
+        try {
+            deserialize(stream);
+            fail("Read a grid whose first cell is not a " + grid.getFirstDayOfWeek());
+        } catch (InvalidObjectException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("First cell"));
+        }
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] stream) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(stream))) {
+            return in.readObject();
+        }
+    }
+
+    private static void replaceLong(byte[] stream, long value, long replacement) {
+        for (int i = 0; i + 8 <= stream.length; i++) {
+            if (ByteBuffer.wrap(stream, i, 8).getLong() == value) {
+                ByteBuffer.wrap(stream, i, 8).putLong(replacement);
+                return;
+            }
+        }
+        throw new AssertionError("No " + value + " in the stream");
+    }
+}